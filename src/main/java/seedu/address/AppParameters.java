@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -17,7 +18,14 @@ import seedu.address.commons.util.ToStringBuilder;
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
+    static final String ON_ERROR_STOP = "stop";
+    static final String ON_ERROR_CONTINUE = "continue";
+
+    private static final String NAMED_PARAMETER_PREFIX = "--";
+
     private Path configPath;
+    private Path scriptPath;
+    private boolean isScriptStopOnError = true;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +35,51 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the path of the script to run once the application has started, or null if there is none.
+     */
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    public boolean isScriptStopOnError() {
+        return isScriptStopOnError;
+    }
+
+    public void setScriptStopOnError(boolean isScriptStopOnError) {
+        this.isScriptStopOnError = isScriptStopOnError;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the raw command-line arguments, for when the application is started without JavaFX.
+     * Named parameters take the form {@code --name=value}, as with {@link Application.Parameters#getNamed()}, and
+     * other arguments are ignored.
+     */
+    public static AppParameters parse(String[] arguments) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String argument : arguments) {
+            int separator = argument.indexOf('=');
+            if (argument.startsWith(NAMED_PARAMETER_PREFIX) && separator > NAMED_PARAMETER_PREFIX.length()) {
+                namedParameters.put(argument.substring(NAMED_PARAMETER_PREFIX.length(), separator),
+                        argument.substring(separator + 1));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -41,6 +88,21 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String scriptPathParameter = namedParameters.get("script");
+        if (scriptPathParameter != null && !FileUtil.isValidPath(scriptPathParameter)) {
+            logger.warning("Invalid script path " + scriptPathParameter + ". No script will be run.");
+            scriptPathParameter = null;
+        }
+        appParameters.setScriptPath(scriptPathParameter != null ? Paths.get(scriptPathParameter) : null);
+
+        String onErrorParameter = namedParameters.get("on-error");
+        if (onErrorParameter != null && !onErrorParameter.equals(ON_ERROR_STOP)
+                && !onErrorParameter.equals(ON_ERROR_CONTINUE)) {
+            logger.warning("Invalid on-error value " + onErrorParameter + ". The script will stop on errors.");
+            onErrorParameter = null;
+        }
+        appParameters.setScriptStopOnError(!ON_ERROR_CONTINUE.equals(onErrorParameter));
+
         return appParameters;
     }
 
@@ -56,18 +118,22 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(scriptPath, otherAppParameters.scriptPath)
+                && isScriptStopOnError == otherAppParameters.isScriptStopOnError;
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, scriptPath, isScriptStopOnError);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("scriptPath", scriptPath)
+                .add("isScriptStopOnError", isScriptStopOnError)
                 .toString();
     }
 }
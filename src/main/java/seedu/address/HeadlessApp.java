@@ -0,0 +1,139 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the application without a window, for use from a terminal or a scheduled job.
+ * Commands are read from standard input, one per line, or from the script given with {@code --script}, and the
+ * feedback of each command is printed. Neither JavaFX nor the UI is started.
+ */
+public class HeadlessApp {
+
+    public static final String FLAG = "--headless";
+
+    static final int EXIT_SUCCESS = 0;
+    static final int EXIT_FAILURE = 1;
+    static final String PROMPT = "> ";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+    private final PrintStream out;
+    private final PrintStream err;
+
+    /**
+     * Creates a {@code HeadlessApp} that runs commands with {@code logic}, and prints their feedback to {@code out}
+     * and their errors to {@code err}.
+     */
+    HeadlessApp(Logic logic, PrintStream out, PrintStream err) {
+        this.logic = logic;
+        this.out = out;
+        this.err = err;
+        logic.setExportResultHandler(result -> out.println(result.getFeedbackToUser()));
+        logic.setSaveFailureHandler(err::println);
+    }
+
+    /**
+     * Runs the application with the command-line {@code arguments}, and returns the exit status: non-zero if a
+     * command failed or the address book could not be saved.
+     */
+    public static int run(String[] arguments) {
+        long startTime = System.nanoTime();
+        AppParameters appParameters = AppParameters.parse(arguments);
+        AppComponents components = AppComponents.init(appParameters);
+        HeadlessApp app = new HeadlessApp(components.getLogic(), System.out, System.err);
+        logger.info(String.format("Started without a window in %d ms", (System.nanoTime() - startTime) / 1_000_000));
+
+        int status;
+        if (appParameters.getScriptPath() != null) {
+            status = app.runScript(appParameters.getScriptPath(), appParameters.isScriptStopOnError());
+        } else {
+            BufferedReader in = new BufferedReader(new InputStreamReader(System.in));
+            status = app.runCommands(in, System.console() != null);
+        }
+
+        components.stop();
+        return status;
+    }
+
+    /**
+     * Runs the script at {@code scriptPath}, prints its result, and waits for the changes and exports to be written.
+     */
+    int runScript(Path scriptPath, boolean isStopOnError) {
+        boolean hasFailed;
+        try {
+            CommandResult result = logic.runScript(scriptPath, isStopOnError);
+            out.println(result.getFeedbackToUser());
+            hasFailed = result.getDisplayType() == CommandResult.DisplayType.WARNING;
+        } catch (CommandException e) {
+            err.println(e.getMessage());
+            hasFailed = true;
+        }
+        return finish(hasFailed);
+    }
+
+    /**
+     * Runs each line of {@code in} as a command, until the end of the input or an exit command, and waits for the
+     * changes and exports to be written.
+     *
+     * @param isInteractive true to prompt for each command.
+     */
+    int runCommands(BufferedReader in, boolean isInteractive) {
+        boolean hasFailed = false;
+        try {
+            String line = readCommand(in, isInteractive);
+            while (line != null) {
+                if (!line.isBlank()) {
+                    try {
+                        CommandResult result = logic.execute(line.trim());
+                        out.println(result.getFeedbackToUser());
+                        if (result.isExit()) {
+                            break;
+                        }
+                    } catch (CommandException | ParseException e) {
+                        err.println(e.getMessage());
+                        hasFailed = true;
+                    }
+                }
+                line = readCommand(in, isInteractive);
+            }
+        } catch (IOException e) {
+            err.println("Could not read commands: " + StringUtil.getDetails(e));
+            hasFailed = true;
+        }
+        return finish(hasFailed);
+    }
+
+    private String readCommand(BufferedReader in, boolean isInteractive) throws IOException {
+        if (isInteractive) {
+            out.print(PROMPT);
+            out.flush();
+        }
+        return in.readLine();
+    }
+
+    /**
+     * Waits for the address book to be saved and the exports to be written, and returns the exit status.
+     */
+    private int finish(boolean hasFailed) {
+        try {
+            logic.flush();
+        } catch (CommandException e) {
+            err.println(e.getMessage());
+            return EXIT_FAILURE;
+        }
+        return hasFailed ? EXIT_FAILURE : EXIT_SUCCESS;
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads comma-separated values one record at a time, so a file of any size can be read without holding it in memory.
+ * Fields may be enclosed in double quotes, in which case they may contain commas, line breaks and doubled quotes
+ * ({@code ""}) standing for a single quote. Records may end in {@code \n}, {@code \r\n} or {@code \r}.
+ */
+public class CsvReader implements Closeable {
+
+    private static final int END_OF_INPUT = -1;
+    private static final int NO_PUSHBACK = -2;
+
+    private final Reader reader;
+    private final StringBuilder field = new StringBuilder();
+    // A character read ahead of the current one, or NO_PUSHBACK
+    private int pushback = NO_PUSHBACK;
+
+    private int currentLine = 1;
+    private int recordLine = 0;
+
+    /**
+     * Creates a {@code CsvReader} over {@code reader}, which should be buffered.
+     */
+    public CsvReader(Reader reader) {
+        requireNonNull(reader);
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the fields of the next record, or null if there are no more records.
+     *
+     * @throws IOException if the input cannot be read or ends inside a quoted field.
+     */
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == END_OF_INPUT) {
+            return null;
+        }
+
+        recordLine = currentLine;
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        while (true) {
+            if (c == '"' && field.length() == 0) {
+                readQuotedField();
+                c = read();
+                continue;
+            }
+            if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r' || c == END_OF_INPUT) {
+                if (c == '\r') {
+                    skipLineFeed();
+                }
+                if (c != END_OF_INPUT) {
+                    currentLine++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Returns the line number, counting from 1, on which the record last returned by {@link #readRecord()} starts.
+     */
+    public int getRecordLineNumber() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Appends the rest of a quoted field, whose opening quote has been read, to {@code field}.
+     */
+    private void readQuotedField() throws IOException {
+        int startLine = currentLine;
+        while (true) {
+            int c = read();
+            if (c == END_OF_INPUT) {
+                throw new IOException("Quoted field starting on line " + startLine + " is not closed");
+            }
+            if (c == '"') {
+                int next = read();
+                if (next != '"') {
+                    pushback = next;
+                    return;
+                }
+                field.append('"');
+            } else if (c == '\r') {
+                field.append(skipLineFeed() ? "\r\n" : "\r");
+                currentLine++;
+            } else {
+                if (c == '\n') {
+                    currentLine++;
+                }
+                field.append((char) c);
+            }
+        }
+    }
+
+    /**
+     * Consumes the next character if it is a line feed, and returns true if it was.
+     */
+    private boolean skipLineFeed() throws IOException {
+        int next = read();
+        if (next == '\n') {
+            return true;
+        }
+        pushback = next;
+        return false;
+    }
+
+    private int read() throws IOException {
+        if (pushback != NO_PUSHBACK) {
+            int c = pushback;
+            pushback = NO_PUSHBACK;
+            return c;
+        }
+        return reader.read();
+    }
+}
@@ -1,17 +1,30 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    private static final Logger logger = LogsCenter.getLogger(FileUtil.class);
     private static final String CHARSET = "UTF-8";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +93,84 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes given string to a file, such that the file either keeps its old content or has all of the new content
+     * even if the program or machine stops part-way.
+     * The content is written to the file at {@link #getTemporaryFilePath(Path)}, forced to the storage device and
+     * then moved over {@code file} in a single step. Will create the file if it does not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, String content) throws IOException {
+        writeToFileAtomically(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(Path, String)}, but the content is produced by {@code writer} onto a
+     * buffered stream over the file, so it never has to be held in memory as a whole.
+     * {@code writer} must not close the stream. If the write fails, the temporary file is deleted.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter writer) throws IOException {
+        Path temporaryFile = getTemporaryFilePath(file);
+        try {
+            try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE);
+                writer.writeTo(out);
+                out.flush();
+                channel.force(false);
+            }
+
+            try {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            // Files written outside the data folder, such as exports, are never checked for leftovers at startup
+            try {
+                Files.deleteIfExists(temporaryFile);
+            } catch (IOException deleteFailure) {
+                e.addSuppressed(deleteFailure);
+            }
+            throw e;
+        }
+        syncDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Forces the entries of {@code directory}, such as a file just moved into it, to the storage device, so that the
+     * move is not lost on a power failure.
+     * Directories cannot be opened on Windows, where NTFS journals the move itself, so this is skipped there.
+     * The move has already succeeded when this is called, so a failure is logged rather than failing the write.
+     */
+    private static void syncDirectory(Path directory) {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException e) {
+            logger.fine("Could not open directory " + directory + " to sync it: " + e);
+            return;
+        }
+        try (channel) {
+            channel.force(true);
+        } catch (IOException e) {
+            logger.warning("Could not sync directory " + directory + ": " + e);
+        }
+    }
+
+    /**
+     * Returns the path of the temporary file that {@link #writeToFileAtomically(Path, String)} uses for {@code file}.
+     * A file at this path is left behind only if the program stops part-way through a write.
+     */
+    public static Path getTemporaryFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + TEMPORARY_FILE_SUFFIX);
+    }
+
+    /**
+     * Writes the content of a file onto a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
 }
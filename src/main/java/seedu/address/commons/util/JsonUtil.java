@@ -3,15 +3,22 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -19,9 +26,11 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -30,7 +39,8 @@ public class JsonUtil {
 
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
 
-    private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+    // The date-time module is registered directly, as finding modules on the classpath slows down startup
+    private static ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
             .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
@@ -40,12 +50,14 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        FileUtil.writeToFileAtomically(jsonFile, toJsonString(objectToSerialize));
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = Files.newInputStream(jsonFile)) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
     }
 
     /**
@@ -60,6 +72,7 @@ public class JsonUtil {
             Path filePath, Class<T> classOfObjectToDeserialize) throws DataLoadingException {
         requireNonNull(filePath);
 
+        recoverTemporaryFile(filePath);
         if (!Files.exists(filePath)) {
             return Optional.empty();
         }
@@ -77,9 +90,81 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Returns the value read by {@code reader} from the given file, or {@code Optional.empty()} object if the file is
+     * not found. The file is parsed token by token straight from disk, so its text is never held in memory.
+     *
+     * @param filePath cannot be null.
+     * @param reader reads the value from a parser positioned before the first token of the file.
+     * @throws DataLoadingException if loading of the JSON file failed, or {@code reader} found an illegal value.
+     */
+    public static <T> Optional<T> readJsonFile(Path filePath, JsonStreamReader<T> reader)
+            throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(reader);
+
+        recoverTemporaryFile(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (InputStream in = Files.newInputStream(filePath);
+                JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            return Optional.of(reader.read(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Reads one value of the given class from {@code parser}, starting at its current token.
+     * Used by a {@link JsonStreamReader} to bind parts of a file while streaming through the rest.
+     */
+    public static <T> T readValue(JsonParser parser, Class<T> instanceClass) throws IOException {
+        return objectMapper.readValue(parser, instanceClass);
+    }
+
+    /**
+     * Resolves a temporary file left behind by a save to {@code filePath} that was interrupted.
+     * A temporary file that holds a complete JSON object is newer than {@code filePath}, as it was only waiting to be
+     * moved into place, so it replaces {@code filePath}. Any other temporary file was cut short and is deleted.
+     * Called before {@code filePath} is read, and by storages that write other formats to resolve a JSON one.
+     */
+    public static void recoverTemporaryFile(Path filePath) {
+        Path temporaryFile = FileUtil.getTemporaryFilePath(filePath);
+        if (!Files.exists(temporaryFile)) {
+            return;
+        }
+
+        try {
+            try (InputStream in = Files.newInputStream(temporaryFile);
+                    JsonParser parser = objectMapper.getFactory().createParser(in)) {
+                // Walking every token checks that the file is complete without building any objects
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    throw new JsonParseException(parser, "Expected a JSON object");
+                }
+                parser.skipChildren();
+            } catch (IOException e) {
+                logger.warning("Discarding incomplete temporary file " + temporaryFile + ": " + e);
+                Files.delete(temporaryFile);
+                return;
+            }
+            logger.warning("Recovering " + filePath + " from temporary file " + temporaryFile);
+            Files.move(temporaryFile, filePath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            logger.warning("Could not recover temporary file " + temporaryFile + ": " + e);
+        }
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * The file is replaced in a single step, so that an interrupted save cannot leave it partly written.
      * @param jsonFile cannot be null
      * @param filePath cannot be null
      * @throws IOException if there was an error during writing to the file
@@ -92,6 +177,33 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Saves the JSON produced by {@code writer} to the specified file, in the same way as
+     * {@link #saveJsonFile(Object, Path)}. The JSON is generated straight onto a buffered stream over the file, so
+     * neither a JSON string nor its bytes are built in memory.
+     *
+     * @param filePath cannot be null
+     * @param writer writes a single JSON value to the generator it is given. Cannot be null.
+     * @param isPrettyPrinted whether the JSON is indented over several lines, which makes it larger to write.
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static void saveJsonFile(Path filePath, JsonStreamWriter writer, boolean isPrettyPrinted)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(writer);
+
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+                // The file is forced to disk after the generator is done, so its stream must be left open
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                if (isPrettyPrinted) {
+                    generator.useDefaultPrettyPrinter();
+                }
+                writer.write(generator);
+            }
+        });
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +223,40 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string without line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Reads a value from a {@link JsonParser}, consuming its tokens as it goes.
+     *
+     * @param <T> the type of value read
+     */
+    @FunctionalInterface
+    public interface JsonStreamReader<T> {
+        /**
+         * Reads the value from {@code parser}.
+         *
+         * @throws IOException if the JSON is malformed or cannot be read.
+         * @throws IllegalValueException if the JSON holds a value that violates a data constraint.
+         */
+        T read(JsonParser parser) throws IOException, IllegalValueException;
+    }
+
+    /**
+     * Writes a value onto a {@link JsonGenerator} token by token.
+     */
+    @FunctionalInterface
+    public interface JsonStreamWriter {
+        void write(JsonGenerator generator) throws IOException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
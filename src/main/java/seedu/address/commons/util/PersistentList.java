@@ -0,0 +1,256 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An immutable list that shares structure with the lists it was derived from.
+ * It is stored as a height-balanced binary tree ordered by position, so {@link #get(int)}, {@link #add(int, Object)},
+ * {@link #set(int, Object)} and {@link #remove(int)} take O(log n) time and each returned version only allocates
+ * O(log n) new nodes. Older versions stay valid and cheap to keep, which makes this suitable for undo history.
+ *
+ * @param <E> the type of elements in this list
+ */
+public final class PersistentList<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null, new Object(), 0);
+
+    private final Node<E> root;
+
+    // Versions derived from one another share a lineage, so that their difference can be estimated cheaply
+    private final Object lineage;
+    private final long allocatedNodes;
+
+    private PersistentList(Node<E> root, Object lineage, long allocatedNodes) {
+        this.root = root;
+        this.lineage = lineage;
+        this.allocatedNodes = allocatedNodes;
+    }
+
+    /**
+     * Returns an empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list containing {@code elements} in order, built in O(n) time.
+     */
+    public static <E> PersistentList<E> of(List<? extends E> elements) {
+        return new PersistentList<>(build(elements, 0, elements.size()), new Object(), elements.size());
+    }
+
+    public int size() {
+        return Node.size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     */
+    public E get(int index) {
+        checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = Node.size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.value;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index}.
+     */
+    public PersistentList<E> add(int index, E element) {
+        checkIndex(index, size() + 1);
+        int[] allocated = new int[1];
+        return derive(insert(root, index, element, allocated), allocated[0]);
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<E> set(int index, E element) {
+        checkIndex(index, size());
+        int[] allocated = new int[1];
+        return derive(replace(root, index, element, allocated), allocated[0]);
+    }
+
+    /**
+     * Returns a list with the element at {@code index} removed.
+     */
+    public PersistentList<E> remove(int index) {
+        checkIndex(index, size());
+        int[] allocated = new int[1];
+        return derive(delete(root, index, allocated), allocated[0]);
+    }
+
+    /**
+     * Returns the elements of this list as a new mutable {@code List}.
+     */
+    public List<E> toList() {
+        List<E> elements = new ArrayList<>(size());
+        addAll(root, elements);
+        return elements;
+    }
+
+    /**
+     * Returns an estimate of the number of tree nodes held by this list but not by {@code older}.
+     * The estimate is exact for a list built from {@code older} by single insertions, replacements and removals,
+     * save that it also counts nodes which were allocated and later discarded along the way.
+     */
+    public long countNodesNotIn(PersistentList<E> older) {
+        if (older.lineage == lineage && older.allocatedNodes <= allocatedNodes) {
+            return allocatedNodes - older.allocatedNodes;
+        }
+        return size();
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    private PersistentList<E> derive(Node<E> newRoot, int allocated) {
+        return new PersistentList<>(newRoot, lineage, allocatedNodes + allocated);
+    }
+
+    private static void checkIndex(int index, int bound) {
+        checkArgument(index >= 0 && index < bound, "Index " + index + " out of bounds for length " + bound);
+    }
+
+    private static <E> Node<E> build(List<? extends E> elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node<>(elements.get(mid), build(elements, from, mid), build(elements, mid + 1, to));
+    }
+
+    private static <E> void addAll(Node<E> node, List<E> elements) {
+        if (node != null) {
+            addAll(node.left, elements);
+            elements.add(node.value);
+            addAll(node.right, elements);
+        }
+    }
+
+    private static <E> Node<E> insert(Node<E> node, int index, E element, int[] allocated) {
+        if (node == null) {
+            allocated[0]++;
+            return new Node<>(element, null, null);
+        }
+        int leftSize = Node.size(node.left);
+        allocated[0]++;
+        if (index <= leftSize) {
+            return balance(node.value, insert(node.left, index, element, allocated), node.right, allocated);
+        }
+        return balance(node.value, node.left, insert(node.right, index - leftSize - 1, element, allocated),
+                allocated);
+    }
+
+    private static <E> Node<E> replace(Node<E> node, int index, E element, int[] allocated) {
+        int leftSize = Node.size(node.left);
+        allocated[0]++;
+        if (index < leftSize) {
+            return new Node<>(node.value, replace(node.left, index, element, allocated), node.right);
+        } else if (index == leftSize) {
+            return new Node<>(element, node.left, node.right);
+        }
+        return new Node<>(node.value, node.left, replace(node.right, index - leftSize - 1, element, allocated));
+    }
+
+    private static <E> Node<E> delete(Node<E> node, int index, int[] allocated) {
+        int leftSize = Node.size(node.left);
+        if (index < leftSize) {
+            allocated[0]++;
+            return balance(node.value, delete(node.left, index, allocated), node.right, allocated);
+        } else if (index > leftSize) {
+            allocated[0]++;
+            return balance(node.value, node.left, delete(node.right, index - leftSize - 1, allocated), allocated);
+        }
+
+        if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        // Replaces the removed value with its successor, the first element of the right subtree
+        allocated[0]++;
+        return balance(first(node.right), node.left, delete(node.right, 0, allocated), allocated);
+    }
+
+    private static <E> E first(Node<E> node) {
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node.value;
+    }
+
+    /**
+     * Returns a node holding {@code value} over {@code left} and {@code right}, rotated if needed so that the
+     * heights of its subtrees differ by at most one. Both subtrees must already be balanced.
+     */
+    private static <E> Node<E> balance(E value, Node<E> left, Node<E> right, int[] allocated) {
+        int leftHeight = Node.height(left);
+        int rightHeight = Node.height(right);
+        if (leftHeight > rightHeight + 1) {
+            allocated[0]++;
+            if (Node.height(left.left) >= Node.height(left.right)) {
+                return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+            }
+            allocated[0]++;
+            return new Node<>(left.right.value, new Node<>(left.value, left.left, left.right.left),
+                    new Node<>(value, left.right.right, right));
+        } else if (rightHeight > leftHeight + 1) {
+            allocated[0]++;
+            if (Node.height(right.right) >= Node.height(right.left)) {
+                return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+            }
+            allocated[0]++;
+            return new Node<>(right.left.value, new Node<>(value, left, right.left.left),
+                    new Node<>(right.value, right.left.right, right.right));
+        }
+        return new Node<>(value, left, right);
+    }
+
+    /**
+     * An immutable tree node that records the size and height of its subtree.
+     */
+    private static final class Node<E> {
+        private final E value;
+        private final Node<E> left;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(E value, Node<E> left, Node<E> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+
+        static int size(Node<?> node) {
+            return node == null ? 0 : node.size;
+        }
+
+        static int height(Node<?> node) {
+            return node == null ? 0 : node.height;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.logic;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -25,6 +26,33 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Runs the commands in the script at {@code scriptPath}, one per line, as a single change to the address book
+     * that is saved once, and returns the result of each command.
+     * @param isStopOnError true to stop at the first command that fails, rather than carry on with the rest.
+     * @throws CommandException If the script cannot be read.
+     */
+    CommandResult runScript(Path scriptPath, boolean isStopOnError) throws CommandException;
+
+    /**
+     * Waits for every export started and every save scheduled so far to finish.
+     * @throws CommandException If the address book could not be saved.
+     */
+    void flush() throws CommandException;
+
+    /**
+     * Sets the handler to be called with an error message when data could not be saved in the background.
+     * The handler is called on a background thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Sets the handler to be called with the result of each export once its file has been written, or has failed to
+     * be. The handler is called on the exporter thread, so a handler that shows the result must hand it to the JavaFX
+     * application thread, such as with {@code Platform.runLater}.
+     */
+    void setExportResultHandler(Consumer<CommandResult> exportResultHandler);
+
     /**
      * Returns the AddressBook.
      *
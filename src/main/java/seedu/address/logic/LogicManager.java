@@ -1,14 +1,22 @@
 package seedu.address.logic;
 
+import static seedu.address.logic.Messages.MESSAGE_UNCLEAR_BULK_CONFIRMATION;
 import static seedu.address.logic.Messages.MESSAGE_UNCLEAR_CLEAR_CONFIRMATION;
 import static seedu.address.logic.Messages.MESSAGE_UNCLEAR_DELETE_CONFIRMATION;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -16,9 +24,14 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ExportRequest;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.ScriptRequest;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.AddressBookParser.CommandInput;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -42,6 +55,15 @@ public class LogicManager implements Logic {
 
     private List<String> lastUsedFindKeywords = List.of();
 
+    private final ExecutorService exporter = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "person-exporter");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Future<?> lastExport = CompletableFuture.completedFuture(null);
+    private volatile Consumer<CommandResult> exportResultHandler = result ->
+            logger.info("Export finished: " + result.getFeedbackToUser());
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -52,19 +74,25 @@ public class LogicManager implements Logic {
     }
 
     /**
-     * Checks whether a {@code DeleteCommand} or {@code ClearCommand} have pending confirmations.
+     * Checks whether a {@code DeleteCommand}, {@code ClearCommand} or a command on all displayed persons has a
+     * pending confirmation.
      * Helper function to ensure that the correct error message is displayed to the user in GUI.
      * @param commandText The text being parsed.
+     * @param input The text being parsed, split into its command word and arguments.
      * @throws ParseException The error message that is displayed to the reader by the UI layer.
      */
-    private void checkPendingConfirmation(String commandText) throws ParseException {
+    private void checkPendingConfirmation(String commandText, CommandInput input) throws ParseException {
         if (!commandText.equals("y") && !commandText.equals("n")) {
-            if (addressBookParser.isRecognizedCommand(commandText)) {
-                if (model.isDeletePending() || model.isClearPending()) {
+            if (addressBookParser.isRecognizedCommand(input)) {
+                if (model.isDeletePending() || model.isClearPending() || model.isBulkChangePending()) {
                     model.clearPendingClear();
                     model.clearPendingDeletion();
+                    model.clearPendingBulkChange();
                 }
             } else {
+                if (model.isBulkChangePending()) {
+                    throw new ParseException(MESSAGE_UNCLEAR_BULK_CONFIRMATION);
+                }
                 if (model.isDeletePending()) {
                     throw new ParseException(MESSAGE_UNCLEAR_DELETE_CONFIRMATION);
                 }
@@ -79,28 +107,190 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        checkPendingConfirmation(commandText);
+        // The input is split once, for both the confirmation check and parsing
+        CommandInput input = CommandInput.of(commandText);
+        checkPendingConfirmation(commandText, input);
+
+        Command command = addressBookParser.parseCommand(input);
+        return executeAndSave(command);
+    }
+
+    @Override
+    public CommandResult runScript(Path scriptPath, boolean isStopOnError) throws CommandException {
+        logger.info("----------------[SCRIPT][" + scriptPath + "]");
+        return executeAndSave(new RunCommand(scriptPath, isStopOnError));
+    }
+
+    /**
+     * Executes {@code command}, and the script it asks for if any, as a single change to the address book, and then
+     * saves the address book and starts the exports asked for.
+     */
+    private CommandResult executeAndSave(Command command) throws CommandException {
+        CommandResult commandResult = command.execute(model);
+        List<ExportRequest> exportRequests = new ArrayList<>();
+        commandResult.getExportRequest().ifPresent(exportRequests::add);
+        Optional<ScriptRequest> scriptRequest = commandResult.getScriptRequest();
+        if (scriptRequest.isPresent()) {
+            commandResult = runScriptLines(scriptRequest.get(), exportRequests);
+        } else {
+            updateLastUsedFindKeywords(command);
+        }
+        model.commitAddressBook();
+
+        // The data is written on a background thread so that large address books do not hold up the UI.
+        // Exiting waits for it, so that no change is lost and a failure can still be shown to the user.
+        storage.saveAddressBookInBackground(model.getAddressBook());
+        exportRequests.forEach(this::startExport);
+        if (commandResult.isExit()) {
+            flush();
+        }
+
+        return commandResult;
+    }
+
+    /**
+     * Runs the commands in {@code request} in turn, without committing or saving the address book in between, and
+     * returns the result of each command and the time it took. The exports asked for are added to
+     * {@code exportRequests}.
+     */
+    private CommandResult runScriptLines(ScriptRequest request, List<ExportRequest> exportRequests) {
+        long scriptStartTime = System.nanoTime();
+        List<String> lines = request.getLines();
+        long commandCount = lines.stream().filter(line -> !RunCommand.isSkipped(line)).count();
+        StringBuilder lineResults = new StringBuilder();
+        int successCount = 0;
+        int failureCount = 0;
+        int stoppedLineNumber = 0;
+
+        for (int i = 0; i < lines.size() && stoppedLineNumber == 0; i++) {
+            String line = lines.get(i);
+            if (RunCommand.isSkipped(line)) {
+                continue;
+            }
+            int lineNumber = i + 1;
+            long lineStartTime = System.nanoTime();
+            try {
+                String feedback = executeScriptLine(line.trim(), exportRequests).getFeedbackToUser();
+                lineResults.append('\n').append(String.format(RunCommand.MESSAGE_LINE_SUCCESS, lineNumber,
+                        getMillisSince(lineStartTime), feedback));
+                successCount++;
+            } catch (CommandException | ParseException e) {
+                lineResults.append('\n').append(String.format(RunCommand.MESSAGE_LINE_FAILURE, lineNumber,
+                        getMillisSince(lineStartTime), e.getMessage()));
+                failureCount++;
+                if (request.isStopOnError()) {
+                    stoppedLineNumber = lineNumber;
+                }
+            }
+        }
+
+        String summary = String.format(RunCommand.MESSAGE_SUMMARY, successCount + failureCount, commandCount,
+                request.getFilePath(), (long) getMillisSince(scriptStartTime), successCount, failureCount);
+        if (stoppedLineNumber > 0) {
+            summary += " " + String.format(RunCommand.MESSAGE_STOPPED, stoppedLineNumber);
+        }
+        logger.info(summary);
+        return new CommandResult(summary + lineResults,
+                failureCount == 0 ? CommandResult.DisplayType.INFO : CommandResult.DisplayType.WARNING);
+    }
+
+    /**
+     * Executes {@code line} of a script like a command entered by the user, but without committing or saving the
+     * address book.
+     */
+    private CommandResult executeScriptLine(String line, List<ExportRequest> exportRequests)
+            throws CommandException, ParseException {
+        CommandInput input = CommandInput.of(line);
+        if (RunCommand.COMMANDS_NOT_IN_SCRIPTS.contains(input.getCommandWord())) {
+            throw new CommandException(String.format(RunCommand.MESSAGE_NOT_IN_SCRIPT, input.getCommandWord()));
+        }
+        checkPendingConfirmation(line, input);
 
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        Command command = addressBookParser.parseCommand(input);
+        CommandResult commandResult = command.execute(model);
+        updateLastUsedFindKeywords(command);
+        commandResult.getExportRequest().ifPresent(exportRequests::add);
+        return commandResult;
+    }
 
+    private void updateLastUsedFindKeywords(Command command) {
         if (command instanceof FindCommand) {
             FindCommand findCommand = (FindCommand) command;
             lastUsedFindKeywords = findCommand.getKeywords();
         } else {
             lastUsedFindKeywords = Collections.emptyList();
         }
+    }
+
+    private static double getMillisSince(long startNanoTime) {
+        return (System.nanoTime() - startNanoTime) / 1_000_000.0;
+    }
 
+    @Override
+    public void flush() throws CommandException {
+        awaitExports();
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            storage.flushAddressBook();
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveFailureMessage(ioe), ioe);
         }
+    }
 
-        return commandResult;
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        storage.setSaveFailureHandler(ioe -> saveFailureHandler.accept(getSaveFailureMessage(ioe)));
+    }
+
+    @Override
+    public void setExportResultHandler(Consumer<CommandResult> exportResultHandler) {
+        this.exportResultHandler = exportResultHandler;
+    }
+
+    /**
+     * Waits for every export started so far to finish.
+     */
+    void awaitExports() {
+        try {
+            // The exporter thread runs exports in order, so every earlier export has finished once the last one has
+            lastExport.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Export failed: " + e.getCause());
+        }
+    }
+
+    /**
+     * Writes the persons in {@code request} to their file on the exporter thread, so that the UI is not held up, and
+     * passes the outcome to the export result handler on that thread.
+     */
+    private void startExport(ExportRequest request) {
+        lastExport = exporter.submit(() -> {
+            CommandResult result;
+            try {
+                int count = storage.exportPersons(request.getPersons().toList(), request.getFilePath(),
+                        request.getFormat());
+                result = new CommandResult(
+                        ExportCommand.getSuccessMessage(request.getFormat(), count, request.getFilePath()));
+            } catch (IOException ioe) {
+                logger.warning("Failed to export to " + request.getFilePath() + ": " + ioe);
+                result = new CommandResult(String.format(ExportCommand.MESSAGE_FAILURE, request.getFilePath(),
+                        ioe.getMessage()), CommandResult.DisplayType.WARNING);
+            } catch (RuntimeException e) {
+                // Otherwise the failure would be kept in the future, and the user would never hear of the export again
+                logger.severe("Unexpected failure exporting to " + request.getFilePath() + ": " + e);
+                result = new CommandResult(String.format(ExportCommand.MESSAGE_FAILURE, request.getFilePath(),
+                        e), CommandResult.DisplayType.WARNING);
+            }
+            exportResultHandler.accept(result);
+        });
+    }
+
+    private static String getSaveFailureMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
     }
 
     @Override
@@ -23,6 +23,8 @@ public class Messages {
             "A deletion is pending. Please type 'y' to confirm deletion or 'n' to abort deletion.";
     public static final String MESSAGE_UNCLEAR_CLEAR_CONFIRMATION =
             "A clear is pending. Please type 'y' to confirm clear or 'n' to abort clear.";
+    public static final String MESSAGE_UNCLEAR_BULK_CONFIRMATION =
+            "A change to all displayed patients is pending. Please type 'y' to confirm it or 'n' to abort it.";
 
     /**
      * Returns an error message indicating the duplicate prefixes.
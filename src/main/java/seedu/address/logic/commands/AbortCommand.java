@@ -2,16 +2,19 @@ package seedu.address.logic.commands;
 
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.BulkChange;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 
 /**
- * Aborts either a deletion or clear operation, depending on what is pending.
+ * Aborts a deletion, a clear or a change to all displayed persons, depending on what is pending.
  */
 public class AbortCommand extends Command {
     public static final String COMMAND_WORD = "n";
     public static final String MESSAGE_DELETE_ABORT = "Aborted deletion of Person: %1$s";
     public static final String MESSAGE_CLEAR_ABORT = "Aborted clear operation.";
+    public static final String MESSAGE_DELETE_ALL_ABORT = "Aborted deletion of %1$d person(s).";
+    public static final String MESSAGE_EDIT_ALL_ABORT = "Aborted edit of %1$d person(s).";
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
@@ -20,6 +23,12 @@ public class AbortCommand extends Command {
             model.clearPendingDeletion();
             throw new CommandException("Too many pending operations.");
         }
+        if (model.isBulkChangePending()) {
+            BulkChange bulkChange = model.getPendingBulkChange();
+            model.clearPendingBulkChange();
+            return new CommandResult(String.format(bulkChange.isDeletion()
+                    ? MESSAGE_DELETE_ALL_ABORT : MESSAGE_EDIT_ALL_ABORT, bulkChange.size()));
+        }
         if (model.isDeletePending()) {
             Person person = model.getPendingDeletion();
             model.clearPendingDeletion();
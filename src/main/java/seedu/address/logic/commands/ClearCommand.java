@@ -19,6 +19,7 @@ public class ClearCommand extends Command {
         if (model.isDeletePending()) {
             model.clearPendingDeletion();
         }
+        model.clearPendingBulkChange();
         if (!model.hasPeopleToClear()) {
             return new CommandResult(ConfirmCommand.MESSAGE_NOTHING_TO_CLEAR);
         }
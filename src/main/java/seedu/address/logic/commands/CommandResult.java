@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
 
@@ -22,6 +23,12 @@ public class CommandResult {
     /** Track message type. */
     private final DisplayType displayType;
 
+    /** Persons to be exported once the command has finished, or null if there are none. */
+    private final ExportRequest exportRequest;
+
+    /** A script to be run once the command has finished, or null if there is none. */
+    private final ScriptRequest scriptRequest;
+
     /**
      * Enum to define different types of messages.
      */
@@ -38,7 +45,36 @@ public class CommandResult {
         this.showHelp = showHelp;
         this.exit = exit;
         this.displayType = displayType;
+        this.exportRequest = null;
+        this.scriptRequest = null;
     }
+
+    /**
+     * Constructs a {@code CommandResult} that asks for {@code exportRequest} to be carried out once the command has
+     * finished, with other fields set to their default value.
+     */
+    public CommandResult(String feedbackToUser, ExportRequest exportRequest) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.displayType = DisplayType.INFO;
+        this.exportRequest = requireNonNull(exportRequest);
+        this.scriptRequest = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} that asks for {@code scriptRequest} to be carried out once the command has
+     * finished, with other fields set to their default value.
+     */
+    public CommandResult(String feedbackToUser, ScriptRequest scriptRequest) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.displayType = DisplayType.INFO;
+        this.exportRequest = null;
+        this.scriptRequest = requireNonNull(scriptRequest);
+    }
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
@@ -73,6 +109,14 @@ public class CommandResult {
         return exit;
     }
 
+    public Optional<ExportRequest> getExportRequest() {
+        return Optional.ofNullable(exportRequest);
+    }
+
+    public Optional<ScriptRequest> getScriptRequest() {
+        return Optional.ofNullable(scriptRequest);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -87,7 +131,9 @@ public class CommandResult {
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && Objects.equals(exportRequest, otherCommandResult.exportRequest)
+                && Objects.equals(scriptRequest, otherCommandResult.scriptRequest);
     }
 
     @Override
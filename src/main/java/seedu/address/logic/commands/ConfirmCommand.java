@@ -1,19 +1,24 @@
 package seedu.address.logic.commands;
 
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.BulkChange;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 
 /**
- * Confirms either a deletion or clear operation, depending on what is pending.
+ * Confirms a deletion, a clear or a change to all displayed persons, depending on what is pending.
  */
 public class ConfirmCommand extends Command {
     public static final String COMMAND_WORD = "y";
     public static final String MESSAGE_DELETE_SUCCESS = "Deleted Person: %1$s";
     public static final String MESSAGE_CLEAR_SUCCESS = "Address book has been cleared!";
     public static final String MESSAGE_NOTHING_TO_CLEAR = "Address book empty, nothing to clear!";
+    public static final String MESSAGE_DELETE_ALL_SUCCESS = "Deleted %1$d person(s).";
+    public static final String MESSAGE_EDIT_ALL_SUCCESS = "Edited %1$d person(s).";
 
 
     @Override
@@ -23,6 +28,16 @@ public class ConfirmCommand extends Command {
             model.clearPendingClear();
             throw new CommandException("Too many pending operations, try again.");
         }
+        if (model.isBulkChangePending()) {
+            BulkChange bulkChange = model.getPendingBulkChange();
+            model.clearPendingBulkChange();
+            bulkChange.applyTo(model);
+            if (bulkChange.isDeletion()) {
+                return new CommandResult(String.format(MESSAGE_DELETE_ALL_SUCCESS, bulkChange.size()));
+            }
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            return new CommandResult(String.format(MESSAGE_EDIT_ALL_SUCCESS, bulkChange.size()));
+        }
         if (model.isDeletePending()) {
             Person person = model.getPendingDeletion();
             model.deletePerson(person);
@@ -0,0 +1,41 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.BulkChange;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Requests the user to confirm deletion of every person in the displayed person list.
+ * Once confirmed, the persons are removed from the address book as a single change.
+ */
+public class DeleteAllCommand extends Command {
+
+    public static final String MESSAGE_CONFIRMATION =
+            "Are you sure you want to delete all %1$d displayed person(s)?\n"
+            + "Type `y` to proceed or `n` to abort.";
+    public static final String MESSAGE_NO_PERSONS = "There are no displayed persons to delete.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<Person> targets = List.copyOf(model.getFilteredPersonList());
+        if (targets.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_PERSONS);
+        }
+
+        model.setPendingBulkChange(BulkChange.deletion(targets));
+        return new CommandResult(String.format(MESSAGE_CONFIRMATION, targets.size()),
+                CommandResult.DisplayType.WARNING);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof DeleteAllCommand;
+    }
+}
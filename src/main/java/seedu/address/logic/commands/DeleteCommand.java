@@ -1,5 +1,7 @@
 package seedu.address.logic.commands;
 
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_ALL;
+
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
@@ -15,8 +17,9 @@ public class DeleteCommand extends Command {
     public static final String COMMAND_WORD = "delete";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the person identified by the index number used in the displayed person list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
+            + ": Deletes the person identified by the index number used in the displayed person list, "
+            + "or every displayed person if '" + KEYWORD_ALL + "' is given.\n"
+            + "Parameters: INDEX (must be a positive integer) or " + KEYWORD_ALL + "\n"
             + "Example: " + COMMAND_WORD + " 1";
 
     private final Index targetIndex;
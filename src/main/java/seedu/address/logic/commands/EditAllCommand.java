@@ -0,0 +1,100 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.BulkChange;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Requests the user to confirm editing every person in the displayed person list with the same details.
+ * Once confirmed, the edits are applied to the address book as a single change.
+ */
+public class EditAllCommand extends Command {
+
+    public static final String MESSAGE_CONFIRMATION = "Are you sure you want to edit all %1$d displayed person(s)?\n"
+            + "Type `y` to proceed or `n` to abort.";
+    public static final String MESSAGE_NO_PERSONS = "There are no displayed persons to edit.";
+
+    private final EditPersonDescriptor editPersonDescriptor;
+
+    /**
+     * @param editPersonDescriptor details to edit every displayed person with
+     */
+    public EditAllCommand(EditPersonDescriptor editPersonDescriptor) {
+        requireNonNull(editPersonDescriptor);
+        this.editPersonDescriptor = new EditPersonDescriptor(editPersonDescriptor);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<Person> targets = List.copyOf(model.getFilteredPersonList());
+        if (targets.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_PERSONS);
+        }
+
+        List<Person> editedPersons = new ArrayList<>(targets.size());
+        for (Person target : targets) {
+            editedPersons.add(EditCommand.createEditedPerson(target, editPersonDescriptor));
+        }
+        if (hasDuplicate(model, targets, editedPersons)) {
+            throw new CommandException(EditCommand.MESSAGE_DUPLICATE_PERSON);
+        }
+
+        model.setPendingBulkChange(BulkChange.edit(targets, editedPersons));
+        return new CommandResult(String.format(MESSAGE_CONFIRMATION, targets.size()),
+                CommandResult.DisplayType.WARNING);
+    }
+
+    /**
+     * Returns true if an edited person has the same identity as another edited person, or as a person in the
+     * address book that is not being edited.
+     */
+    private static boolean hasDuplicate(Model model, List<Person> targets, List<Person> editedPersons) {
+        Set<List<Object>> targetIdentities = new HashSet<>();
+        for (Person target : targets) {
+            targetIdentities.add(List.of(target.getName(), target.getPhone()));
+        }
+        Set<List<Object>> editedIdentities = new HashSet<>();
+        for (Person editedPerson : editedPersons) {
+            List<Object> identity = List.of(editedPerson.getName(), editedPerson.getPhone());
+            if (!editedIdentities.add(identity)
+                    || (!targetIdentities.contains(identity) && model.hasPerson(editedPerson))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EditAllCommand)) {
+            return false;
+        }
+
+        EditAllCommand otherEditAllCommand = (EditAllCommand) other;
+        return editPersonDescriptor.equals(otherEditAllCommand.editPersonDescriptor);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("editPersonDescriptor", editPersonDescriptor)
+                .toString();
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_ALL;
+
+import java.nio.file.Path;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.storage.ExportFormat;
+
+/**
+ * Exports the displayed persons, or every person, to a CSV file or to an iCalendar file of their appointments.
+ * The file is written in the background once the command has finished, so a large export does not hold up the app.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String ALL_KEYWORD = KEYWORD_ALL;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports the displayed persons, or every person if "
+            + "'" + ALL_KEYWORD + "' is given, to a file. A file ending in .csv gets one row per person, which the "
+            + ImportCommand.COMMAND_WORD + " command can read back; a file ending in .ics gets a calendar with one "
+            + "event per appointment.\n"
+            + "Parameters: [" + ALL_KEYWORD + "] FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " " + ALL_KEYWORD + " appointments.ics";
+
+    public static final String MESSAGE_STARTED = "Exporting %1$d person(s) to %2$s...";
+    public static final String MESSAGE_SUCCESS_CSV = "Exported %1$d person(s) to %2$s.";
+    public static final String MESSAGE_SUCCESS_ICS = "Exported %1$d appointment(s) to %2$s.";
+    public static final String MESSAGE_FAILURE = "Could not export to %1$s: %2$s";
+    public static final String MESSAGE_NO_PERSONS = "There are no persons to export.";
+
+    private final Path filePath;
+    private final ExportFormat format;
+    private final boolean isAllPersons;
+
+    /**
+     * Creates an ExportCommand to write persons to {@code filePath} in {@code format}.
+     *
+     * @param isAllPersons true to export every person rather than only the displayed ones.
+     */
+    public ExportCommand(Path filePath, ExportFormat format, boolean isAllPersons) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        this.filePath = filePath;
+        this.format = format;
+        this.isAllPersons = isAllPersons;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        // The snapshot of the address book is taken without copying; only displayed persons need to be copied
+        PersistentList<Person> persons = isAllPersons
+                ? model.getAddressBook().getSnapshot()
+                : PersistentList.of(model.getFilteredPersonList());
+        if (persons.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_PERSONS);
+        }
+
+        return new CommandResult(String.format(MESSAGE_STARTED, persons.size(), filePath),
+                new ExportRequest(persons, filePath, format));
+    }
+
+    /**
+     * Returns the message shown once {@code count} records have been written to {@code filePath} in {@code format}.
+     */
+    public static String getSuccessMessage(ExportFormat format, int count, Path filePath) {
+        String message = format == ExportFormat.ICS ? MESSAGE_SUCCESS_ICS : MESSAGE_SUCCESS_CSV;
+        return String.format(message, count, filePath);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return filePath.equals(otherExportCommand.filePath)
+                && format == otherExportCommand.format
+                && isAllPersons == otherExportCommand.isAllPersons;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("format", format)
+                .add("isAllPersons", isAllPersons)
+                .toString();
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.storage.ExportFormat;
+
+/**
+ * A request, made by a command, for persons to be written to a file once the command has finished.
+ */
+public class ExportRequest {
+
+    private final PersistentList<Person> persons;
+    private final Path filePath;
+    private final ExportFormat format;
+
+    /**
+     * Creates a request to write {@code persons} to {@code filePath} in {@code format}.
+     * The list is immutable, so it can be written on another thread while the address book keeps changing.
+     */
+    public ExportRequest(PersistentList<Person> persons, Path filePath, ExportFormat format) {
+        requireAllNonNull(persons, filePath, format);
+        this.persons = persons;
+        this.filePath = filePath;
+        this.format = format;
+    }
+
+    public PersistentList<Person> getPersons() {
+        return persons;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    public ExportFormat getFormat() {
+        return format;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportRequest)) {
+            return false;
+        }
+
+        ExportRequest otherExportRequest = (ExportRequest) other;
+        return persons.toList().equals(otherExportRequest.persons.toList())
+                && filePath.equals(otherExportRequest.filePath)
+                && format == otherExportRequest.format;
+    }
+
+    @Override
+    public int hashCode() {
+        return filePath.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons.size())
+                .add("filePath", filePath)
+                .add("format", format)
+                .toString();
+    }
+}
@@ -22,12 +22,19 @@ public class FindCommand extends Command {
     public static final String COMMAND_WORD = "find";
 
     public static final String MESSAGE_USAGE = "Correct format: " + COMMAND_WORD
-            + " -n <name>, -d <appointment date>, or upcoming\n"
+            + " -n <name>, -d <appointment date>, -d <start date>..<end date>, -c <condition>, or upcoming\n"
+            + "Either end of a date range can be left out.\n"
+            + "Repeat -c to require several conditions, or separate conditions with | to match any of them.\n"
             + "Examples:\n"
             + COMMAND_WORD + " -n Alice\n"
             + COMMAND_WORD + " -d 2025-04-01\n"
+            + COMMAND_WORD + " -d 2025-04-01..2025-04-30\n"
+            + COMMAND_WORD + " -d 2025-04-01..\n"
+            + COMMAND_WORD + " -c dementia -c diabetes|High BP\n"
             + COMMAND_WORD + " upcoming";
 
+    public static final String MESSAGE_INVALID_DATE_RANGE = "The start of a date range must not be after its end.";
+
     private final Predicate<Person> predicate;
 
     /**
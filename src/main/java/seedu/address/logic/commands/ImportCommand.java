@@ -0,0 +1,160 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.CsvPersonParser;
+import seedu.address.logic.parser.CsvPersonParser.ParsedCsv;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.PersonLimitReachedException;
+
+/**
+ * Adds every valid person in a CSV file to the address book as a single change.
+ * Rows that are invalid, or that describe a person already in the address book or earlier in the file, are skipped
+ * and reported with their line numbers.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the persons in a CSV file to the address book. "
+            + "The first row names the columns: "
+            + String.join(", ", CsvPersonParser.COLUMNS.keySet()) + ". "
+            + "Name, phone, address and gender are required. "
+            + "Separate multiple conditions or details in a cell with '" + CsvPersonParser.TAG_SEPARATOR + "'.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/ward-b.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d person(s) from %2$s.";
+    public static final String MESSAGE_SKIPPED_ROWS = "Skipped %1$d row(s):";
+    public static final String MESSAGE_MORE_SKIPPED_ROWS = "...and %1$d more.";
+    public static final String MESSAGE_NOTHING_IMPORTED = "No persons were imported from %1$s.";
+    public static final String MESSAGE_FILE_NOT_FOUND = "File %1$s does not exist.";
+    public static final String MESSAGE_READ_ERROR = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_ROW_ERROR = "Line %1$d: %2$s";
+    public static final String MESSAGE_DUPLICATE_ROW = "This person is the same as the one on line %1$d.";
+
+    /** The number of skipped rows listed in the result; the rest are only counted. */
+    static final int MAX_REPORTED_ERRORS = 20;
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to add the persons in the CSV file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        ParsedCsv parsed;
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            parsed = new CsvPersonParser().parse(reader);
+        } catch (NoSuchFileException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        } catch (ParseException | IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, e.getMessage()), e);
+        }
+
+        SortedMap<Integer, String> errors = new TreeMap<>(parsed.getErrors());
+        List<Person> toAdd = removeDuplicates(parsed, model, errors);
+
+        if (toAdd.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NOTHING_IMPORTED, filePath) + formatErrors(errors));
+        }
+
+        try {
+            model.addPersons(toAdd);
+        } catch (PersonLimitReachedException e) {
+            throw new CommandException(e.getMessage());
+        }
+
+        String feedback = String.format(MESSAGE_SUCCESS, toAdd.size(), filePath) + formatErrors(errors);
+        return new CommandResult(feedback,
+                errors.isEmpty() ? CommandResult.DisplayType.INFO : CommandResult.DisplayType.WARNING);
+    }
+
+    /**
+     * Returns the parsed persons that are neither in {@code model} nor the same as a person on an earlier line,
+     * adding an error to {@code errors} for each person left out.
+     */
+    private static List<Person> removeDuplicates(ParsedCsv parsed, Model model, SortedMap<Integer, String> errors) {
+        List<Person> persons = parsed.getPersons();
+        List<Integer> lineNumbers = parsed.getPersonLineNumbers();
+        List<Person> unique = new ArrayList<>(persons.size());
+        // Persons are the same if they have the same name and phone, as in Person#isSamePerson
+        Map<List<Object>, Integer> firstLineNumbers = new HashMap<>(persons.size() * 4 / 3 + 1);
+
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            int lineNumber = lineNumbers.get(i);
+            Integer firstLineNumber = firstLineNumbers.putIfAbsent(
+                    List.of(person.getName(), person.getPhone()), lineNumber);
+            if (firstLineNumber != null) {
+                errors.put(lineNumber, String.format(MESSAGE_DUPLICATE_ROW, firstLineNumber));
+            } else if (model.hasPerson(person)) {
+                errors.put(lineNumber, AddCommand.MESSAGE_DUPLICATE_PERSON);
+            } else {
+                unique.add(person);
+            }
+        }
+        return unique;
+    }
+
+    private static String formatErrors(SortedMap<Integer, String> errors) {
+        if (errors.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder builder = new StringBuilder("\n").append(String.format(MESSAGE_SKIPPED_ROWS, errors.size()));
+        errors.entrySet().stream().limit(MAX_REPORTED_ERRORS).forEach(error -> builder.append('\n')
+                .append(String.format(MESSAGE_ROW_ERROR, error.getKey(), error.getValue())));
+        if (errors.size() > MAX_REPORTED_ERRORS) {
+            builder.append('\n').append(String.format(MESSAGE_MORE_SKIPPED_ROWS,
+                    errors.size() - MAX_REPORTED_ERRORS));
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a text file, one per line, as a single change to the address book.
+ * The address book is saved once, after the last command, and the whole script is undone by a single undo.
+ * The commands themselves are run by the logic component once this command has read the file.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String CONTINUE_KEYWORD = "continue";
+
+    /** Lines starting with this are comments, and are skipped like blank lines. */
+    public static final String COMMENT_PREFIX = "#";
+
+    /** Commands that cannot be used in a script, as they would act on the script itself. */
+    public static final Set<String> COMMANDS_NOT_IN_SCRIPTS = Set.of(COMMAND_WORD, UndoCommand.COMMAND_WORD,
+            RedoCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD);
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a text file, one per line, "
+            + "and saves the address book once at the end. Blank lines and lines starting with '" + COMMENT_PREFIX
+            + "' are skipped. Stops at the first command that fails, unless '" + CONTINUE_KEYWORD + "' is given.\n"
+            + "Parameters: [" + CONTINUE_KEYWORD + "] FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " " + CONTINUE_KEYWORD + " nightly-schedule.txt";
+
+    public static final String MESSAGE_STARTED = "Running %1$d command(s) from %2$s...";
+    public static final String MESSAGE_SUMMARY = "Ran %1$d of %2$d command(s) from %3$s in %4$d ms: "
+            + "%5$d succeeded, %6$d failed.";
+    public static final String MESSAGE_STOPPED = "Stopped at line %1$d.";
+    public static final String MESSAGE_LINE_SUCCESS = "Line %1$d (%2$.1f ms): %3$s";
+    public static final String MESSAGE_LINE_FAILURE = "Line %1$d (%2$.1f ms) failed: %3$s";
+    public static final String MESSAGE_NOT_IN_SCRIPT = "The %1$s command cannot be used in a script.";
+    public static final String MESSAGE_NO_COMMANDS = "%1$s has no commands to run.";
+    public static final String MESSAGE_FILE_NOT_FOUND = "File %1$s does not exist.";
+    public static final String MESSAGE_READ_ERROR = "Could not read %1$s: %2$s";
+
+    private final Path filePath;
+    private final boolean isStopOnError;
+
+    /**
+     * Creates a RunCommand to run the commands in the file at {@code filePath}.
+     *
+     * @param isStopOnError true to stop at the first command that fails, rather than carry on with the rest.
+     */
+    public RunCommand(Path filePath, boolean isStopOnError) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.isStopOnError = isStopOnError;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, e.getMessage()), e);
+        }
+
+        long commandCount = lines.stream().filter(line -> !isSkipped(line)).count();
+        if (commandCount == 0) {
+            throw new CommandException(String.format(MESSAGE_NO_COMMANDS, filePath));
+        }
+        return new CommandResult(String.format(MESSAGE_STARTED, commandCount, filePath),
+                new ScriptRequest(lines, filePath, isStopOnError));
+    }
+
+    /**
+     * Returns true if {@code line} of a script is blank or a comment, and so is not run.
+     */
+    public static boolean isSkipped(String line) {
+        String trimmedLine = line.trim();
+        return trimmedLine.isEmpty() || trimmedLine.startsWith(COMMENT_PREFIX);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return filePath.equals(otherRunCommand.filePath)
+                && isStopOnError == otherRunCommand.isStopOnError;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("isStopOnError", isStopOnError)
+                .toString();
+    }
+}
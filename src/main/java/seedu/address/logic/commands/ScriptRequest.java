@@ -0,0 +1,77 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A request, made by a command, for the lines of a script to be run as commands once the command has finished.
+ */
+public class ScriptRequest {
+
+    private final List<String> lines;
+    private final Path filePath;
+    private final boolean isStopOnError;
+
+    /**
+     * Creates a request to run {@code lines}, read from {@code filePath}, as commands.
+     *
+     * @param isStopOnError true to stop at the first command that fails, rather than carry on with the rest.
+     */
+    public ScriptRequest(List<String> lines, Path filePath, boolean isStopOnError) {
+        requireAllNonNull(lines, filePath);
+        this.lines = lines;
+        this.filePath = filePath;
+        this.isStopOnError = isStopOnError;
+    }
+
+    /**
+     * Returns every line of the script, including blank lines and comments, so that line {@code i} counting from 1
+     * is at index {@code i - 1}.
+     */
+    public List<String> getLines() {
+        return lines;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    public boolean isStopOnError() {
+        return isStopOnError;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ScriptRequest)) {
+            return false;
+        }
+
+        ScriptRequest otherScriptRequest = (ScriptRequest) other;
+        return lines.equals(otherScriptRequest.lines)
+                && filePath.equals(otherScriptRequest.filePath)
+                && isStopOnError == otherScriptRequest.isStopOnError;
+    }
+
+    @Override
+    public int hashCode() {
+        return filePath.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("lines", lines.size())
+                .add("filePath", filePath)
+                .add("isStopOnError", isStopOnError)
+                .toString();
+    }
+}
@@ -29,6 +29,9 @@ import seedu.address.model.tag.Tag;
  */
 public class AddCommandParser implements Parser<AddCommand> {
 
+    private static final PrefixTrie PREFIXES = PrefixTrie.of(PREFIX_NAME, PREFIX_PHONE, PREFIX_ADDRESS,
+            PREFIX_GENDER, PREFIX_APPT_DATE, PREFIX_CONDITION, PREFIX_DETAILS, PREFIX_MEDICINE);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddCommand
      * and returns an AddCommand object for execution.
@@ -36,14 +39,22 @@ public class AddCommandParser implements Parser<AddCommand> {
      */
     public AddCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_ADDRESS,
-                        PREFIX_GENDER, PREFIX_APPT_DATE, PREFIX_CONDITION, PREFIX_DETAILS, PREFIX_MEDICINE);
+                ArgumentTokenizer.tokenize(args, PREFIXES);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_ADDRESS, PREFIX_PHONE, PREFIX_GENDER)
                 || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddCommand.MESSAGE_USAGE));
         }
 
+        return new AddCommand(parsePerson(argMultimap));
+    }
+
+    /**
+     * Parses the person described by {@code argMultimap}, which must have a value for each of the name, phone,
+     * address and gender prefixes.
+     * @throws ParseException if a value is invalid or a single-valued prefix is repeated
+     */
+    static Person parsePerson(ArgumentMultimap argMultimap) throws ParseException {
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_PHONE, PREFIX_ADDRESS,
                 PREFIX_GENDER, PREFIX_MEDICINE);
         Name name = ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get());
@@ -58,9 +69,7 @@ public class AddCommandParser implements Parser<AddCommand> {
 
         Set<Tag> detailList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_DETAILS), Tag.TagType.DETAIL);
 
-        Person person = new Person(name, phone, address, gender, appointmentDate, medicine, conditionList, detailList);
-
-        return new AddCommand(person);
+        return new Person(name, phone, address, gender, appointmentDate, medicine, conditionList, detailList);
     }
 
     /**
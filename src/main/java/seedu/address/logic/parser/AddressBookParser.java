@@ -1,25 +1,14 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
-import java.util.Set;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.logic.commands.AbortCommand;
-import seedu.address.logic.commands.AddCommand;
-import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
-import seedu.address.logic.commands.ConfirmCommand;
-import seedu.address.logic.commands.DeleteCommand;
-import seedu.address.logic.commands.EditCommand;
-import seedu.address.logic.commands.ExitCommand;
-import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
-import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -27,24 +16,24 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class AddressBookParser {
 
-    private static final Set<String> VALID_COMMAND_WORDS = Set.of(
-            AbortCommand.COMMAND_WORD,
-            AddCommand.COMMAND_WORD,
-            ClearCommand.COMMAND_WORD,
-            ConfirmCommand.COMMAND_WORD,
-            DeleteCommand.COMMAND_WORD,
-            EditCommand.COMMAND_WORD,
-            ExitCommand.COMMAND_WORD,
-            FindCommand.COMMAND_WORD,
-            HelpCommand.COMMAND_WORD,
-            ListCommand.COMMAND_WORD
-    );
+    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+
+    private final CommandRegistry registry;
 
     /**
-     * Used for initial separation of command word and args.
+     * Creates an {@code AddressBookParser} that parses every command of the application.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+    public AddressBookParser() {
+        this(CommandRegistry.createDefault());
+    }
+
+    /**
+     * Creates an {@code AddressBookParser} that parses the commands in {@code registry}.
+     */
+    public AddressBookParser(CommandRegistry registry) {
+        requireNonNull(registry);
+        this.registry = registry;
+    }
 
     /**
      * Parses user input into command for execution.
@@ -54,56 +43,32 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        return parseCommand(CommandInput.of(userInput));
+    }
+
+    /**
+     * Parses user input that has been split into its command word and arguments into command for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public Command parseCommand(CommandInput input) throws ParseException {
+        final String commandWord = input.getCommandWord();
+        final String arguments = input.getArguments();
+        if (commandWord.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
-
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
-        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
-
-
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ConfirmCommand.COMMAND_WORD:
-            return new ConfirmCommand();
-
-        case AbortCommand.COMMAND_WORD:
-            return new AbortCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
+        logger.fine(() -> "Command word: " + commandWord + "; Arguments: " + arguments);
 
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        default:
-            logger.finer("This user input caused a ParseException: " + userInput);
+        Parser<?> parser = registry.getParser(commandWord).orElse(null);
+        if (parser == null) {
+            logger.finer(() -> "This user input caused a ParseException: " + commandWord + arguments);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
+        return parser.parse(arguments);
     }
 
     /**
@@ -112,8 +77,62 @@ public class AddressBookParser {
      * @return True if a valid command word is used, false otherwise.
      */
     public boolean isRecognizedCommand(String input) {
-        String trimmed = input.trim().split("\\s+")[0];
-        return VALID_COMMAND_WORDS.contains(trimmed);
+        return isRecognizedCommand(CommandInput.of(input));
+    }
+
+    /**
+     * Returns true if the command word of {@code input} is a valid command word.
+     */
+    public boolean isRecognizedCommand(CommandInput input) {
+        return registry.isRegistered(input.getCommandWord());
+    }
+
+    /**
+     * User input split into its command word and the arguments that follow it.
+     */
+    public static class CommandInput {
+        private final String commandWord;
+        private final String arguments;
+
+        private CommandInput(String commandWord, String arguments) {
+            this.commandWord = commandWord;
+            this.arguments = arguments;
+        }
+
+        /**
+         * Splits {@code userInput} into its first word and the rest, with leading and trailing whitespaces removed
+         * from the input, in a single pass over its characters.
+         * The arguments keep the whitespaces that separate them from the command word.
+         */
+        public static CommandInput of(String userInput) {
+            requireNonNull(userInput);
+            int end = userInput.length();
+            while (end > 0 && isWhitespace(userInput.charAt(end - 1))) {
+                end--;
+            }
+            int wordStart = 0;
+            while (wordStart < end && isWhitespace(userInput.charAt(wordStart))) {
+                wordStart++;
+            }
+            int wordEnd = wordStart;
+            while (wordEnd < end && !isWhitespace(userInput.charAt(wordEnd))) {
+                wordEnd++;
+            }
+            return new CommandInput(userInput.substring(wordStart, wordEnd), userInput.substring(wordEnd, end));
+        }
+
+        private static boolean isWhitespace(char c) {
+            // The characters removed by String#trim
+            return c <= ' ';
+        }
+
+        public String getCommandWord() {
+            return commandWord;
+        }
+
+        public String getArguments() {
+            return arguments;
+        }
     }
 
 }
@@ -15,4 +15,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_APPT_DATE = new Prefix("-d ");
     public static final Prefix PREFIX_MEDICINE = new Prefix("-med");
 
+    /* Keyword definitions */
+    public static final String KEYWORD_ALL = "all";
+
 }
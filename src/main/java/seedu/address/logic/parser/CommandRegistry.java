@@ -0,0 +1,86 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.logic.commands.AbortCommand;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ConfirmCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.UndoCommand;
+
+/**
+ * Maps command words to the parsers of their commands.
+ * Parsers are created once when they are registered and reused for every command, so they must not keep any state
+ * between calls to {@link Parser#parse(String)}. Commands are registered while the application starts; a registry
+ * is only read after that.
+ */
+public class CommandRegistry {
+
+    public static final String MESSAGE_DUPLICATE_COMMAND_WORD = "Command word \"%1$s\" is already registered.";
+
+    private final Map<String, Parser<?>> parsers = new HashMap<>();
+
+    /**
+     * Returns a registry of every command of the application.
+     */
+    public static CommandRegistry createDefault() {
+        return new CommandRegistry()
+                .register(AddCommand.COMMAND_WORD, new AddCommandParser())
+                .register(EditCommand.COMMAND_WORD, new EditCommandParser())
+                .register(DeleteCommand.COMMAND_WORD, new DeleteCommandParser())
+                .register(ConfirmCommand.COMMAND_WORD, arguments -> new ConfirmCommand())
+                .register(AbortCommand.COMMAND_WORD, arguments -> new AbortCommand())
+                .register(ImportCommand.COMMAND_WORD, new ImportCommandParser())
+                .register(ExportCommand.COMMAND_WORD, new ExportCommandParser())
+                .register(RunCommand.COMMAND_WORD, new RunCommandParser())
+                .register(FindCommand.COMMAND_WORD, new FindCommandParser())
+                .register(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand())
+                .register(ListCommand.COMMAND_WORD, arguments -> new ListCommand())
+                .register(UndoCommand.COMMAND_WORD, arguments -> new UndoCommand())
+                .register(RedoCommand.COMMAND_WORD, arguments -> new RedoCommand())
+                .register(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand())
+                .register(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+    }
+
+    /**
+     * Registers {@code parser} to parse the arguments of commands starting with {@code commandWord}, and returns
+     * this registry.
+     *
+     * @throws IllegalArgumentException if {@code commandWord} is already registered.
+     */
+    public CommandRegistry register(String commandWord, Parser<?> parser) {
+        requireAllNonNull(commandWord, parser);
+        if (parsers.putIfAbsent(commandWord, parser) != null) {
+            throw new IllegalArgumentException(String.format(MESSAGE_DUPLICATE_COMMAND_WORD, commandWord));
+        }
+        return this;
+    }
+
+    /**
+     * Returns the parser registered for {@code commandWord}, if any.
+     */
+    public Optional<Parser<?>> getParser(String commandWord) {
+        return Optional.ofNullable(parsers.get(commandWord));
+    }
+
+    /**
+     * Returns true if a parser is registered for {@code commandWord}.
+     */
+    public boolean isRegistered(String commandWord) {
+        return parsers.containsKey(commandWord);
+    }
+}
@@ -0,0 +1,209 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_APPT_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CONDITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DETAILS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GENDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEDICINE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.util.CsvReader;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+
+/**
+ * Parses persons from comma-separated values, one person per record, with the same rules as {@link AddCommandParser}.
+ * The first record names the columns; the name, phone, address and gender columns are required. Each condition and
+ * detail cell may hold several tags separated by semicolons.
+ * Records are read in batches, and the records of a batch are validated in parallel.
+ */
+public class CsvPersonParser {
+
+    /** Columns, in the order they are written in, and the prefix each is parsed as. */
+    public static final Map<String, Prefix> COLUMNS = createColumns();
+
+    public static final String TAG_SEPARATOR = ";";
+
+    public static final String MESSAGE_MISSING_COLUMNS = "The first row must name the columns, including %1$s.";
+    public static final String MESSAGE_UNKNOWN_COLUMN = "Unknown column \"%1$s\". The columns are: %2$s.";
+    public static final String MESSAGE_DUPLICATE_COLUMN = "Column \"%1$s\" appears more than once.";
+    public static final String MESSAGE_WRONG_CELL_COUNT = "Expected %1$d cells but found %2$d.";
+
+    static final int BATCH_SIZE = 4096;
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("name", "phone", "address", "gender");
+
+    /**
+     * Reads every record of {@code reader}, which should be buffered, into a {@code ParsedCsv}.
+     *
+     * @throws ParseException if the first record does not name the columns correctly.
+     * @throws IOException if the input cannot be read.
+     */
+    public ParsedCsv parse(Reader reader) throws ParseException, IOException {
+        requireNonNull(reader);
+        CsvReader csvReader = new CsvReader(reader);
+        Prefix[] columnPrefixes = parseHeader(csvReader.readRecord());
+
+        ParsedCsv parsed = new ParsedCsv();
+        List<List<String>> batch = new ArrayList<>(BATCH_SIZE);
+        List<Integer> batchLineNumbers = new ArrayList<>(BATCH_SIZE);
+        for (List<String> record = csvReader.readRecord(); record != null; record = csvReader.readRecord()) {
+            if (isBlank(record)) {
+                continue;
+            }
+            batch.add(record);
+            batchLineNumbers.add(csvReader.getRecordLineNumber());
+            if (batch.size() == BATCH_SIZE) {
+                parseBatch(batch, batchLineNumbers, columnPrefixes, parsed);
+                batch.clear();
+                batchLineNumbers.clear();
+            }
+        }
+        parseBatch(batch, batchLineNumbers, columnPrefixes, parsed);
+        return parsed;
+    }
+
+    /**
+     * Returns the prefix of each column named in {@code header}.
+     */
+    private static Prefix[] parseHeader(List<String> header) throws ParseException {
+        String missingColumnsMessage = String.format(MESSAGE_MISSING_COLUMNS, String.join(", ", REQUIRED_COLUMNS));
+        if (header == null) {
+            throw new ParseException(missingColumnsMessage);
+        }
+
+        Prefix[] prefixes = new Prefix[header.size()];
+        List<String> seen = new ArrayList<>();
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i).trim().toLowerCase(Locale.ROOT);
+            if (!COLUMNS.containsKey(column)) {
+                throw new ParseException(String.format(MESSAGE_UNKNOWN_COLUMN, header.get(i).trim(),
+                        String.join(", ", COLUMNS.keySet())));
+            }
+            if (seen.contains(column)) {
+                throw new ParseException(String.format(MESSAGE_DUPLICATE_COLUMN, column));
+            }
+            seen.add(column);
+            prefixes[i] = COLUMNS.get(column);
+        }
+
+        if (!seen.containsAll(REQUIRED_COLUMNS)) {
+            throw new ParseException(missingColumnsMessage);
+        }
+        return prefixes;
+    }
+
+    /**
+     * Validates {@code records} in parallel and adds the results to {@code parsed} in the order of the records.
+     */
+    private static void parseBatch(List<List<String>> records, List<Integer> lineNumbers, Prefix[] columnPrefixes,
+            ParsedCsv parsed) {
+        Object[] results = new Object[records.size()];
+        IntStream.range(0, records.size()).parallel().forEach(i -> {
+            try {
+                results[i] = parseRecord(records.get(i), columnPrefixes);
+            } catch (ParseException pe) {
+                results[i] = pe.getMessage();
+            }
+        });
+
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] instanceof Person) {
+                parsed.persons.add((Person) results[i]);
+                parsed.personLineNumbers.add(lineNumbers.get(i));
+            } else {
+                parsed.errors.put(lineNumbers.get(i), (String) results[i]);
+            }
+        }
+    }
+
+    private static Person parseRecord(List<String> record, Prefix[] columnPrefixes) throws ParseException {
+        if (record.size() != columnPrefixes.length) {
+            throw new ParseException(String.format(MESSAGE_WRONG_CELL_COUNT, columnPrefixes.length, record.size()));
+        }
+
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
+        for (int i = 0; i < record.size(); i++) {
+            Prefix prefix = columnPrefixes[i];
+            String cell = record.get(i);
+            if (prefix.equals(PREFIX_CONDITION) || prefix.equals(PREFIX_DETAILS)) {
+                for (String tag : cell.split(TAG_SEPARATOR)) {
+                    if (!tag.isBlank()) {
+                        argMultimap.put(prefix, tag);
+                    }
+                }
+            } else if (!cell.isBlank() || isRequired(prefix)) {
+                // An empty required cell is kept, so that it is rejected with the usual constraints message
+                argMultimap.put(prefix, cell);
+            }
+        }
+        return AddCommandParser.parsePerson(argMultimap);
+    }
+
+    private static boolean isRequired(Prefix prefix) {
+        return prefix.equals(PREFIX_NAME) || prefix.equals(PREFIX_PHONE) || prefix.equals(PREFIX_ADDRESS)
+                || prefix.equals(PREFIX_GENDER);
+    }
+
+    private static boolean isBlank(List<String> record) {
+        return record.stream().allMatch(String::isBlank);
+    }
+
+    private static Map<String, Prefix> createColumns() {
+        Map<String, Prefix> columns = new LinkedHashMap<>();
+        columns.put("name", PREFIX_NAME);
+        columns.put("phone", PREFIX_PHONE);
+        columns.put("address", PREFIX_ADDRESS);
+        columns.put("gender", PREFIX_GENDER);
+        columns.put("appointment", PREFIX_APPT_DATE);
+        columns.put("medicine", PREFIX_MEDICINE);
+        columns.put("conditions", PREFIX_CONDITION);
+        columns.put("details", PREFIX_DETAILS);
+        return Collections.unmodifiableMap(columns);
+    }
+
+    /**
+     * The persons parsed from comma-separated values, and the records that could not be parsed.
+     */
+    public static class ParsedCsv {
+        private final List<Person> persons = new ArrayList<>();
+        private final List<Integer> personLineNumbers = new ArrayList<>();
+        private final SortedMap<Integer, String> errors = new TreeMap<>();
+
+        /**
+         * Returns the valid persons, in the order they were read.
+         */
+        public List<Person> getPersons() {
+            return persons;
+        }
+
+        /**
+         * Returns the line number on which each person in {@link #getPersons()} starts.
+         */
+        public List<Integer> getPersonLineNumbers() {
+            return personLineNumbers;
+        }
+
+        /**
+         * Returns the line number on which each record that could not be parsed starts, and why it could not be.
+         */
+        public SortedMap<Integer, String> getErrors() {
+            return errors;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.storage.ExportFormat;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    public static final String MESSAGE_UNSUPPORTED_FORMAT = "Only files ending in .csv or .ics can be exported to.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        boolean isAllPersons = false;
+        String[] words = trimmedArgs.split("\\s+", 2);
+        if (words.length == 2 && words[0].equals(ExportCommand.ALL_KEYWORD)) {
+            isAllPersons = true;
+            trimmedArgs = words[1];
+        }
+        if (trimmedArgs.isEmpty() || trimmedArgs.equals(ExportCommand.ALL_KEYWORD)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        Path filePath;
+        try {
+            filePath = Path.of(trimmedArgs);
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE), e);
+        }
+        Optional<ExportFormat> format = ExportFormat.fromFilePath(filePath);
+        if (format.isEmpty()) {
+            throw new ParseException(MESSAGE_UNSUPPORTED_FORMAT);
+        }
+        return new ExportCommand(filePath, format.get(), isAllPersons);
+    }
+}
@@ -3,8 +3,10 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_APPT_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CONDITION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -12,14 +14,21 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.AppointmentDate;
 import seedu.address.model.person.AppointmentDateContainsKeywordsPredicate;
+import seedu.address.model.person.AppointmentDateRangePredicate;
+import seedu.address.model.person.ConditionTagsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.UpcomingAppointmentPredicate;
+import seedu.address.model.tag.Tag;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    private static final String DATE_RANGE_SEPARATOR = "..";
+    private static final String TAG_ALTERNATIVE_SEPARATOR = "\\|";
+    private static final PrefixTrie PREFIXES = PrefixTrie.of(PREFIX_NAME, PREFIX_APPT_DATE, PREFIX_CONDITION);
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
@@ -29,15 +38,15 @@ public class FindCommandParser implements Parser<FindCommand> {
         requireNonNull(args);
         String trimmedArgs = args.trim();
 
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_APPT_DATE);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
 
         if (trimmedArgs.equalsIgnoreCase("upcoming")) {
             return new FindCommand(new UpcomingAppointmentPredicate());
         }
 
         if (!(arePrefixesPresent(argMultimap, PREFIX_NAME)
-                || arePrefixesPresent(argMultimap, PREFIX_APPT_DATE))) {
+                || arePrefixesPresent(argMultimap, PREFIX_APPT_DATE)
+                || arePrefixesPresent(argMultimap, PREFIX_CONDITION))) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
@@ -52,6 +61,9 @@ public class FindCommandParser implements Parser<FindCommand> {
         if (trimmedArgs.startsWith("-n ")) {
             return new FindCommand(new NameContainsKeywordsPredicate(List.of(keyword)));
         } else if (trimmedArgs.startsWith("-d ")) {
+            if (keyword.contains(DATE_RANGE_SEPARATOR)) {
+                return new FindCommand(parseDateRange(keyword));
+            }
             try {
                 ParserUtil.parseAppointmentDate(keyword);
             } catch (ParseException e) {
@@ -63,9 +75,62 @@ public class FindCommandParser implements Parser<FindCommand> {
                 }
             }
             return new FindCommand(new AppointmentDateContainsKeywordsPredicate(List.of(keyword)));
+        } else if (trimmedArgs.startsWith(PREFIX_CONDITION.getPrefix())) {
+            return new FindCommand(parseConditionTags(argMultimap.getAllValues(PREFIX_CONDITION)));
         } else {
-            throw new ParseException("Please specify a valid prefix: '-n ' for name, '-d ' for appointment date.");
+            throw new ParseException("Please specify a valid prefix: '-n ' for name, '-d ' for appointment date, "
+                    + "'-c ' for condition.");
+        }
+    }
+
+    /**
+     * Parses the values of every {@code -c} prefix into a predicate that requires all of them.
+     * Each value may list alternatives separated by {@code |}, any one of which satisfies it.
+     *
+     * @throws ParseException if any condition tag name is empty or invalid.
+     */
+    private static ConditionTagsPredicate parseConditionTags(List<String> values) throws ParseException {
+        List<List<String>> clauses = new ArrayList<>();
+        for (String value : values) {
+            List<String> alternatives = new ArrayList<>();
+            for (String tagName : value.split(TAG_ALTERNATIVE_SEPARATOR, -1)) {
+                // Validated without creating a Tag, so that searching does not add names to the tag dictionary
+                String trimmedTagName = tagName.trim();
+                if (Tag.isEmptyTagName(trimmedTagName)) {
+                    throw new ParseException(Tag.TagType.CONDITION.emptyInputMessage);
+                }
+                if (!Tag.isValidTagName(trimmedTagName)) {
+                    throw new ParseException(Tag.TagType.CONDITION.constraintMessage);
+                }
+                alternatives.add(trimmedTagName);
+            }
+            clauses.add(alternatives);
+        }
+        return new ConditionTagsPredicate(clauses);
+    }
+
+    /**
+     * Parses a date range of the form {@code start..end}, where either side may be left out to leave it open.
+     *
+     * @throws ParseException if either side is not a valid appointment date, both sides are missing,
+     *     or the range ends before it starts.
+     */
+    private static AppointmentDateRangePredicate parseDateRange(String range) throws ParseException {
+        int separatorIndex = range.indexOf(DATE_RANGE_SEPARATOR);
+        String start = range.substring(0, separatorIndex).trim();
+        String end = range.substring(separatorIndex + DATE_RANGE_SEPARATOR.length()).trim();
+        if (start.isEmpty() && end.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
+        AppointmentDate startDate = ParserUtil.parseAppointmentDate(start);
+        AppointmentDate endDate = ParserUtil.parseAppointmentDate(end);
+        AppointmentDateRangePredicate predicate = new AppointmentDateRangePredicate(startDate, endDate);
+        // An end without a time runs to the end of its day, so the range is compared by its exclusive upper bound
+        if (predicate.getLowerKey() >= predicate.getUpperKey()) {
+            throw new ParseException(FindCommand.MESSAGE_INVALID_DATE_RANGE);
         }
+        return predicate;
     }
 
     /**
@@ -16,6 +16,7 @@ import seedu.address.model.person.Medicine;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagDictionary;
 
 /**
  * Contains utility methods used for parsing strings in the various *Parser classes.
@@ -119,10 +120,11 @@ public class ParserUtil {
         if (Tag.isEmptyTagName(trimmedTag)) {
             throw new ParseException(type.emptyInputMessage);
         }
-        if (!Tag.isValidTagName(trimmedTag)) {
+        try {
+            return TagDictionary.intern(trimmedTag, type);
+        } catch (IllegalArgumentException e) {
             throw new ParseException(type.constraintMessage);
         }
-        return new Tag(trimmedTag, type);
     }
 
     /**
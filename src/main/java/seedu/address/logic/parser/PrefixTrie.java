@@ -0,0 +1,79 @@
+package seedu.address.logic.parser;
+
+import java.util.Arrays;
+
+/**
+ * A trie of {@code Prefix}es, which finds the longest prefix starting at a position of a string in a single pass
+ * over its characters, however many prefixes there are.
+ * A trie is immutable once built, so one can be shared by every parse of the same command.
+ */
+final class PrefixTrie {
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final PrefixTrie[] NO_CHILDREN = new PrefixTrie[0];
+
+    // The children are kept in small parallel arrays, as prefixes are few and short
+    private char[] keys = NO_KEYS;
+    private PrefixTrie[] children = NO_CHILDREN;
+    // The prefix that ends at this node, if any
+    private Prefix prefix;
+
+    private PrefixTrie() {}
+
+    /**
+     * Returns a trie of {@code prefixes}.
+     */
+    static PrefixTrie of(Prefix... prefixes) {
+        PrefixTrie root = new PrefixTrie();
+        for (Prefix prefix : prefixes) {
+            root.insert(prefix);
+        }
+        return root;
+    }
+
+    /**
+     * Returns the longest prefix that {@code string} has at {@code index}, or null if it has none.
+     * An empty prefix never matches.
+     */
+    Prefix match(String string, int index) {
+        PrefixTrie node = this;
+        Prefix longestMatch = null;
+        for (int i = index; i < string.length(); i++) {
+            node = node.getChild(string.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if (node.prefix != null) {
+                longestMatch = node.prefix;
+            }
+        }
+        return longestMatch;
+    }
+
+    private void insert(Prefix toInsert) {
+        String text = toInsert.getPrefix();
+        PrefixTrie node = this;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            PrefixTrie child = node.getChild(c);
+            if (child == null) {
+                child = new PrefixTrie();
+                node.keys = Arrays.copyOf(node.keys, node.keys.length + 1);
+                node.children = Arrays.copyOf(node.children, node.children.length + 1);
+                node.keys[node.keys.length - 1] = c;
+                node.children[node.children.length - 1] = child;
+            }
+            node = child;
+        }
+        node.prefix = toInsert;
+    }
+
+    private PrefixTrie getChild(char c) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == c) {
+                return children[i];
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RunCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        boolean isStopOnError = true;
+        String[] words = trimmedArgs.split("\\s+", 2);
+        if (words.length == 2 && words[0].equals(RunCommand.CONTINUE_KEYWORD)) {
+            isStopOnError = false;
+            trimmedArgs = words[1];
+        }
+        if (trimmedArgs.isEmpty() || trimmedArgs.equals(RunCommand.CONTINUE_KEYWORD)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+
+        try {
+            return new RunCommand(Path.of(trimmedArgs), isStopOnError);
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE), e);
+        }
+    }
+}
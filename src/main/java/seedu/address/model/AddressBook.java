@@ -2,12 +2,27 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.AppointmentDateContainsKeywordsPredicate;
+import seedu.address.model.person.AppointmentDateRangePredicate;
+import seedu.address.model.person.ConditionTagsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagDictionary;
 
 /**
  * Wraps all data at the address-book level
@@ -16,6 +31,8 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private long modificationCount = 0;
+    private PersonChangeLog changeLog = PersonChangeLog.start();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -46,22 +63,66 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        modificationCount++;
+        // The change is not recorded person by person, so readers of the log have to start over
+        changeLog = PersonChangeLog.start();
     }
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * The change log of {@code newData} is carried over, as this address book now holds the same persons.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
         setPersons(newData.getPersonList());
+        changeLog = newData.getChangeLog();
+    }
+
+    /**
+     * Returns an immutable snapshot of the persons in this address book.
+     * Snapshots of successive versions share structure, so each one costs O(log n) memory per change.
+     */
+    @Override
+    public PersistentList<Person> getSnapshot() {
+        return persons.getSnapshot();
+    }
+
+    /**
+     * Replaces the contents of this address book with the persons in {@code snapshot}.
+     * {@code snapshot} must have been returned by {@link #getSnapshot()}.
+     */
+    public void restoreSnapshot(PersistentList<Person> snapshot) {
+        requireNonNull(snapshot);
+        List<Person> previousPersons = persons.getSnapshot().toList();
+        persons.restoreSnapshot(snapshot);
+        modificationCount++;
+
+        // Restoring already takes time in the size of the address book, so the change is found by comparing both
+        Set<Person> previousSet = toIdentitySet(previousPersons);
+        Set<Person> restoredSet = toIdentitySet(getPersonList());
+        changeLog = changeLog.record(
+                previousPersons.stream().filter(person -> !restoredSet.contains(person)).collect(Collectors.toList()),
+                getPersonList().stream().filter(person -> !previousSet.contains(person)).collect(Collectors.toList()));
+    }
+
+    /**
+     * Sets the maximum number of persons this address book can hold.
+     * A non-positive {@code personLimit} removes the limit.
+     */
+    public void setPersonLimit(int personLimit) {
+        persons.setPersonLimit(personLimit);
     }
 
     /**
      * Sorts the list based on appointment date/time
      */
     void sortPersonList() {
+        PersistentList<Person> unsorted = persons.getSnapshot();
         persons.sortList();
+        if (persons.getSnapshot() != unsorted) {
+            modificationCount++;
+        }
     }
     //// person-level operations
 
@@ -73,12 +134,32 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person in the address book with the same identity as {@code person}, if there is one.
+     */
+    public Optional<Person> findPerson(Person person) {
+        requireNonNull(person);
+        return persons.find(person);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        modificationCount++;
+        changeLog = changeLog.record(List.of(), List.of(p));
+    }
+
+    /**
+     * Adds all of {@code persons} to the address book as a single change.
+     * None of them may already exist in the address book, or share an identity with another one.
+     */
+    public void addPersons(List<Person> toAdd) {
+        persons.addAll(toAdd);
+        modificationCount++;
+        changeLog = changeLog.record(List.of(), toAdd);
     }
 
     /**
@@ -90,6 +171,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        modificationCount++;
+        changeLog = changeLog.record(List.of(target), List.of(editedPerson));
     }
 
     /**
@@ -98,6 +181,115 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        modificationCount++;
+        changeLog = changeLog.record(List.of(key), List.of());
+    }
+
+    /**
+     * Replaces each person in {@code targets} with the person at the same position in {@code editedPersons}, as a
+     * single change to the list.
+     * Every person in {@code targets} must exist in the address book, and the edited persons must not share an
+     * identity with each other or with a person that is not replaced.
+     */
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        persons.setPersons(targets, editedPersons);
+        modificationCount++;
+        changeLog = changeLog.record(targets, editedPersons);
+    }
+
+    /**
+     * Removes every person in {@code keys} from this {@code AddressBook}, as a single change to the list.
+     * Every person in {@code keys} must exist in the address book.
+     */
+    public void removePersons(List<Person> keys) {
+        persons.removeAll(keys);
+        modificationCount++;
+        changeLog = changeLog.record(keys, List.of());
+    }
+
+    //// indexed queries
+
+    /**
+     * Returns the persons matching {@code predicate}, in list order, if it can be answered from the indexes kept by
+     * this address book, or an empty {@code Optional} if every person would have to be tested instead.
+     * Only the candidates found by the index are tested, so this does not take time in the size of the address book.
+     */
+    public Optional<List<Person>> findIndexed(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+
+        Optional<Set<Person>> candidates;
+        if (predicate instanceof NameContainsKeywordsPredicate) {
+            candidates = findNameCandidates((NameContainsKeywordsPredicate) predicate);
+        } else if (predicate instanceof ConditionTagsPredicate) {
+            candidates = Optional.of(findTagCandidates((ConditionTagsPredicate) predicate));
+        } else if (predicate instanceof AppointmentDateRangePredicate) {
+            candidates = findAppointmentCandidates(List.of((AppointmentDateRangePredicate) predicate));
+        } else if (predicate instanceof AppointmentDateContainsKeywordsPredicate) {
+            candidates = ((AppointmentDateContainsKeywordsPredicate) predicate).getRanges()
+                    .flatMap(this::findAppointmentCandidates);
+        } else {
+            candidates = Optional.empty();
+        }
+
+        return candidates.map(candidatePersons -> candidatePersons.stream()
+                .filter(predicate)
+                .sorted(persons.getListOrder())
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns a comparator that orders persons in this address book by their positions in the person list.
+     *
+     * @see UniquePersonList#getListOrder()
+     */
+    public Comparator<Person> getListOrder() {
+        return persons.getListOrder();
+    }
+
+    /**
+     * Returns the persons whose names may contain any of the keywords of {@code predicate}, or an empty
+     * {@code Optional} if some keyword is too short to be looked up in the name index.
+     */
+    private Optional<Set<Person>> findNameCandidates(NameContainsKeywordsPredicate predicate) {
+        Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : predicate.getLowerCaseKeywords()) {
+            Optional<Set<Person>> keywordCandidates = persons.findNameCandidates(keyword);
+            if (keywordCandidates.isEmpty()) {
+                return Optional.empty();
+            }
+            candidates.addAll(keywordCandidates.get());
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * Returns the persons whose condition tags satisfy every clause of {@code predicate}.
+     */
+    private Set<Person> findTagCandidates(ConditionTagsPredicate predicate) {
+        List<List<Integer>> tagIdClauses = new ArrayList<>();
+        for (List<String> clause : predicate.getClauses()) {
+            List<Integer> tagIds = new ArrayList<>();
+            for (String tagName : clause) {
+                tagIds.addAll(TagDictionary.findIdsIgnoreCase(tagName, Tag.TagType.CONDITION));
+            }
+            tagIdClauses.add(tagIds);
+        }
+
+        Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        candidates.addAll(persons.findPersonsWithTags(tagIdClauses));
+        return candidates;
+    }
+
+    /**
+     * Returns the persons with an appointment in any of {@code ranges}.
+     */
+    private Optional<Set<Person>> findAppointmentCandidates(List<AppointmentDateRangePredicate> ranges) {
+        // Ranges may overlap, so candidates are de-duplicated before they are verified
+        Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (AppointmentDateRangePredicate range : ranges) {
+            candidates.addAll(persons.getPersonsWithAppointmentBetween(range.getLowerKey(), range.getUpperKey()));
+        }
+        return Optional.of(candidates);
     }
 
     //// util methods
@@ -114,6 +306,22 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    @Override
+    public PersonChangeLog getChangeLog() {
+        return changeLog;
+    }
+
+    private static Set<Person> toIdentitySet(List<Person> persons) {
+        Set<Person> set = Collections.newSetFromMap(new IdentityHashMap<>(persons.size() * 4 / 3 + 1));
+        set.addAll(persons);
+        return set;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
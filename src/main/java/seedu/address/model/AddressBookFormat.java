@@ -0,0 +1,13 @@
+package seedu.address.model;
+
+/**
+ * The formats in which the address book data file can be stored.
+ */
+public enum AddressBookFormat {
+    /** Human-readable JSON, which other programs can read and which can be edited by hand. */
+    JSON,
+    /** A compact binary snapshot, which is smaller and faster to load and save. */
+    BINARY,
+    /** An embedded database next to the data file, to which each save only writes the persons that changed. */
+    SQL
+}
@@ -0,0 +1,127 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.person.Person;
+
+/**
+ * The undo/redo history of an address book, kept as a sequence of immutable snapshots.
+ * Successive snapshots share all but the O(log n) tree nodes touched by a change, so the history is bounded by an
+ * estimate of the memory it holds rather than by a number of versions. The oldest versions are dropped first.
+ */
+public class AddressBookHistory {
+
+    /**
+     * Estimated size in bytes of one tree node of a {@link PersistentList}, including the object header.
+     * Persons themselves are immutable and shared between versions, so they are not counted.
+     */
+    static final long ESTIMATED_BYTES_PER_NODE = 40;
+
+    private final List<PersistentList<Person>> states = new ArrayList<>();
+    // costs.get(i) is the estimated memory held by states.get(i) but not by the state before it
+    private final List<Long> costs = new ArrayList<>();
+    private int currentIndex = 0;
+    private long usedBytes = 0;
+    private long memoryLimit;
+
+    /**
+     * Creates a history whose only version is {@code initialState}, holding at most about {@code memoryLimit} bytes.
+     */
+    public AddressBookHistory(PersistentList<Person> initialState, long memoryLimit) {
+        requireNonNull(initialState);
+        states.add(initialState);
+        costs.add(0L);
+        this.memoryLimit = memoryLimit;
+    }
+
+    /**
+     * Records {@code state} as the newest version, discarding every version that could have been redone.
+     * Does nothing if {@code state} is the current version.
+     */
+    public void commit(PersistentList<Person> state) {
+        requireNonNull(state);
+        PersistentList<Person> currentState = states.get(currentIndex);
+        if (state == currentState) {
+            return;
+        }
+
+        while (states.size() > currentIndex + 1) {
+            states.remove(states.size() - 1);
+            usedBytes -= costs.remove(costs.size() - 1);
+        }
+        // Every version is counted as holding at least one node, so that a non-positive limit keeps no history
+        long cost = Math.max(1, state.countNodesNotIn(currentState)) * ESTIMATED_BYTES_PER_NODE;
+        states.add(state);
+        costs.add(cost);
+        usedBytes += cost;
+        currentIndex++;
+        trimToMemoryLimit();
+    }
+
+    public boolean canUndo() {
+        return currentIndex > 0;
+    }
+
+    public boolean canRedo() {
+        return currentIndex < states.size() - 1;
+    }
+
+    /**
+     * Moves back one version and returns it. There must be a version to undo.
+     */
+    public PersistentList<Person> undo() {
+        assert canUndo();
+        return states.get(--currentIndex);
+    }
+
+    /**
+     * Moves forward one version and returns it. There must be a version to redo.
+     */
+    public PersistentList<Person> redo() {
+        assert canRedo();
+        return states.get(++currentIndex);
+    }
+
+    /**
+     * Sets the estimated memory, in bytes, that the history may hold, dropping the oldest versions if needed.
+     * A non-positive limit keeps only the current version, which disables undo.
+     */
+    public void setMemoryLimit(long memoryLimit) {
+        this.memoryLimit = memoryLimit;
+        trimToMemoryLimit();
+    }
+
+    /**
+     * Returns the estimated memory, in bytes, held by the versions other than the oldest one.
+     */
+    public long getUsedBytes() {
+        return usedBytes;
+    }
+
+    private void trimToMemoryLimit() {
+        // Versions after the current one are dropped last, as they are the ones the user most recently undid
+        while (usedBytes > Math.max(memoryLimit, 0) && states.size() > 1) {
+            if (currentIndex > 0) {
+                dropOldest();
+            } else {
+                states.remove(states.size() - 1);
+                usedBytes -= costs.remove(costs.size() - 1);
+            }
+        }
+    }
+
+    /**
+     * Drops the oldest version. The nodes it held but its successor did not are about as many as the nodes its
+     * successor held but it did not, so the successor's cost is released and it becomes the new base version.
+     */
+    private void dropOldest() {
+        states.remove(0);
+        costs.remove(0);
+        usedBytes -= costs.set(0, 0L);
+        currentIndex--;
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * A change to many persons at once, kept by the {@code Model} until the user confirms or aborts it.
+ * The change either deletes every target, or replaces each target with the edited person at the same position.
+ * Either way, it is applied to the address book as a single change.
+ */
+public class BulkChange {
+
+    private final List<Person> targets;
+    private final List<Person> editedPersons;
+
+    private BulkChange(List<Person> targets, List<Person> editedPersons) {
+        this.targets = targets;
+        this.editedPersons = editedPersons;
+    }
+
+    /**
+     * Returns a change that deletes every person in {@code targets}.
+     */
+    public static BulkChange deletion(List<Person> targets) {
+        requireNonNull(targets);
+        return new BulkChange(List.copyOf(targets), null);
+    }
+
+    /**
+     * Returns a change that replaces each person in {@code targets} with the person at the same position in
+     * {@code editedPersons}.
+     */
+    public static BulkChange edit(List<Person> targets, List<Person> editedPersons) {
+        requireNonNull(targets);
+        requireNonNull(editedPersons);
+        if (targets.size() != editedPersons.size()) {
+            throw new IllegalArgumentException("Every target must have exactly one edited person.");
+        }
+        return new BulkChange(List.copyOf(targets), List.copyOf(editedPersons));
+    }
+
+    public boolean isDeletion() {
+        return editedPersons == null;
+    }
+
+    public List<Person> getTargets() {
+        return targets;
+    }
+
+    /**
+     * Returns the number of persons changed.
+     */
+    public int size() {
+        return targets.size();
+    }
+
+    /**
+     * Applies this change to {@code model}.
+     */
+    public void applyTo(Model model) {
+        requireNonNull(model);
+        if (isDeletion()) {
+            model.deletePersons(targets);
+        } else {
+            model.setPersons(targets, editedPersons);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BulkChange)) {
+            return false;
+        }
+
+        BulkChange otherBulkChange = (BulkChange) other;
+        return targets.equals(otherBulkChange.targets)
+                && Objects.equals(editedPersons, otherBulkChange.editedPersons);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(targets, editedPersons);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targets", targets)
+                .add("editedPersons", editedPersons)
+                .toString();
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -72,6 +73,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all of the given persons as a single change, and shows every person.
+     * None of them may already exist in the address book, or share an identity with another one.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -79,6 +86,44 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces each person in {@code targets} with the person at the same position in {@code editedPersons}, as a
+     * single change. Every person in {@code targets} must exist in the address book, and the edited persons must not
+     * share an identity with each other or with a person that is not replaced.
+     */
+    void setPersons(List<Person> targets, List<Person> editedPersons);
+
+    /**
+     * Deletes all of the given persons as a single change.
+     * Every person in {@code targets} must exist in the address book.
+     */
+    void deletePersons(List<Person> targets);
+
+    /**
+     * Saves the current address book state to the undo history, if it has changed since the last save.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if the address book has a previous state to restore.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if the address book has an undone state to restore.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the address book to its previous state.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the address book to its most recently undone state.
+     */
+    void redoAddressBook();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -92,5 +137,9 @@ public interface Model {
     void clearPendingClear();
     boolean isDeletePending();
     boolean hasPeopleToClear();
+    void setPendingBulkChange(BulkChange bulkChange);
+    BulkChange getPendingBulkChange();
+    boolean isBulkChangePending();
+    void clearPendingBulkChange();
     void sortPersonList();
 }
@@ -4,11 +4,16 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
@@ -21,9 +26,14 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
+    private final ObservableList<Person> filteredPersons = FXCollections.observableArrayList();
+    private final ObservableList<Person> unmodifiableFilteredPersons =
+            FXCollections.unmodifiableObservableList(filteredPersons);
+    private Predicate<Person> filterPredicate = PREDICATE_SHOW_ALL_PERSONS;
+    private final AddressBookHistory history;
     private Person pendingDeletion = null;
     private boolean pendingClear = false;
+    private BulkChange pendingBulkChange = null;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -35,7 +45,10 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        this.addressBook.setPersonLimit(this.userPrefs.getPersonLimit());
+        this.addressBook.getPersonList().addListener(this::updateFilteredPersons);
+        filterPersons();
+        history = new AddressBookHistory(this.addressBook.getSnapshot(), this.userPrefs.getUndoHistoryMemoryLimit());
     }
 
     public ModelManager() {
@@ -48,6 +61,8 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        addressBook.setPersonLimit(this.userPrefs.getPersonLimit());
+        history.setMemoryLimit(this.userPrefs.getUndoHistoryMemoryLimit());
     }
 
     @Override
@@ -106,6 +121,13 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        addressBook.addPersons(persons);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -113,21 +135,129 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        requireAllNonNull(targets, editedPersons);
+
+        addressBook.setPersons(targets, editedPersons);
+    }
+
+    @Override
+    public void deletePersons(List<Person> targets) {
+        requireNonNull(targets);
+        addressBook.removePersons(targets);
+    }
+
+    //=========== Undo/Redo ==================================================================================
+
+    @Override
+    public void commitAddressBook() {
+        history.commit(addressBook.getSnapshot());
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        addressBook.restoreSnapshot(history.undo());
+    }
+
+    @Override
+    public void redoAddressBook() {
+        addressBook.restoreSnapshot(history.redo());
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
-     * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
-     * {@code versionedAddressBook}
+     * Returns an unmodifiable view of the persons in the address book that match the current predicate, in list
+     * order. The view is kept up to date as the address book changes.
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return unmodifiableFilteredPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        filterPredicate = predicate;
+        filterPersons();
+    }
+
+    /**
+     * Sets the filtered persons to those matching the current predicate.
+     * Matches that an index of the address book can find are set directly, so that only the index candidates are
+     * tested. Otherwise, every person is tested.
+     */
+    private void filterPersons() {
+        Optional<List<Person>> indexedMatches = addressBook.findIndexed(filterPredicate);
+        filteredPersons.setAll(indexedMatches.orElseGet(() -> addressBook.getPersonList().stream()
+                .filter(filterPredicate)
+                .collect(Collectors.toList())));
+    }
+
+    /**
+     * Applies a {@code change} of the address book to the filtered persons.
+     * A single added, removed or replaced person is applied in place, testing only that person, while larger changes
+     * filter the persons again. A person moved to another position is replaced together with the persons it moved
+     * past, which only shift by one position, so they are left as they are.
+     */
+    private void updateFilteredPersons(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                filterPersons();
+                return;
+            }
+            List<? extends Person> removedPersons = change.getRemoved();
+            List<? extends Person> addedPersons = change.getAddedSubList();
+            int size = removedPersons.size();
+            if (size > 1 && size == addedPersons.size()) {
+                if (isSameRun(removedPersons, 1, addedPersons, 0, size - 1)) {
+                    removedPersons = removedPersons.subList(0, 1);
+                    addedPersons = addedPersons.subList(size - 1, size);
+                } else if (isSameRun(removedPersons, 0, addedPersons, 1, size - 1)) {
+                    removedPersons = removedPersons.subList(size - 1, size);
+                    addedPersons = addedPersons.subList(0, 1);
+                }
+            }
+            if (removedPersons.size() > 1 || addedPersons.size() > 1) {
+                filterPersons();
+                return;
+            }
+
+            for (Person removed : removedPersons) {
+                filteredPersons.remove(removed);
+            }
+            for (Person added : addedPersons) {
+                if (filterPredicate.test(added)) {
+                    int index = Collections.binarySearch(filteredPersons, added, addressBook.getListOrder());
+                    filteredPersons.add(-index - 1, added);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns true if the {@code length} persons of {@code first} from {@code firstFrom} are the same persons as those
+     * of {@code second} from {@code secondFrom}.
+     */
+    private static boolean isSameRun(List<? extends Person> first, int firstFrom, List<? extends Person> second,
+            int secondFrom, int length) {
+        for (int i = 0; i < length; i++) {
+            if (first.get(firstFrom + i) != second.get(secondFrom + i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -174,6 +304,24 @@ public class ModelManager implements Model {
     public void clearPendingClear() {
         this.pendingClear = false;
     }
+
+    public void setPendingBulkChange(BulkChange bulkChange) {
+        requireNonNull(bulkChange);
+        this.pendingBulkChange = bulkChange;
+    }
+
+    public BulkChange getPendingBulkChange() {
+        return pendingBulkChange;
+    }
+
+    public boolean isBulkChangePending() {
+        return pendingBulkChange != null;
+    }
+
+    public void clearPendingBulkChange() {
+        this.pendingBulkChange = null;
+    }
+
     public boolean hasPeopleToClear() {
         return addressBook.getPersonList().size() > 0;
     }
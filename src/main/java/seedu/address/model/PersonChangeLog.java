@@ -0,0 +1,97 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable log of the most recent changes made to the persons of an address book.
+ * Recording a change returns a new log in O(log n) time, so a log can be handed to another thread as it is.
+ * Each change stands for the state of the address book right after it, so a reader can remember the last change
+ * it has seen and later ask for the changes after it, in time proportional to their number.
+ */
+public final class PersonChangeLog {
+
+    /** The number of changes kept; older changes are dropped, and readers that need them must start over. */
+    public static final int MAX_CHANGES = 1024;
+
+    private final PersistentList<Change> changes;
+
+    private PersonChangeLog(PersistentList<Change> changes) {
+        this.changes = changes;
+    }
+
+    /**
+     * Returns a log whose only change marks the start of an address book, sharing no history with any other log.
+     */
+    public static PersonChangeLog start() {
+        return new PersonChangeLog(PersistentList.<Change>empty().add(0, new Change(0, List.of(), List.of())));
+    }
+
+    /**
+     * Returns a log with a change that removed {@code removedPersons} and then added {@code addedPersons} recorded
+     * after the changes of this log.
+     */
+    public PersonChangeLog record(List<Person> removedPersons, List<Person> addedPersons) {
+        requireNonNull(removedPersons);
+        requireNonNull(addedPersons);
+        Change change = new Change(getLatest().sequenceNumber + 1, List.copyOf(removedPersons),
+                List.copyOf(addedPersons));
+        PersistentList<Change> recorded = changes.add(changes.size(), change);
+        return new PersonChangeLog(recorded.size() > MAX_CHANGES ? recorded.remove(0) : recorded);
+    }
+
+    /**
+     * Returns the latest change, which stands for the current state of the address book.
+     */
+    public Change getLatest() {
+        return changes.get(changes.size() - 1);
+    }
+
+    /**
+     * Returns the changes recorded after {@code change}, oldest first, or an empty {@code Optional} if
+     * {@code change} is not in this log, either because it was dropped or because it belongs to another history.
+     */
+    public Optional<List<Change>> getChangesAfter(Change change) {
+        requireNonNull(change);
+        long index = change.sequenceNumber - changes.get(0).sequenceNumber;
+        if (index < 0 || index >= changes.size() || changes.get((int) index) != change) {
+            return Optional.empty();
+        }
+
+        List<Change> changesAfter = new ArrayList<>(changes.size() - (int) index - 1);
+        for (int i = (int) index + 1; i < changes.size(); i++) {
+            changesAfter.add(changes.get(i));
+        }
+        return Optional.of(changesAfter);
+    }
+
+    /**
+     * A change to the persons of an address book: some persons were removed, and then some were added.
+     * An edit removes the original person and adds the edited one.
+     */
+    public static final class Change {
+        private final long sequenceNumber;
+        private final List<Person> removedPersons;
+        private final List<Person> addedPersons;
+
+        private Change(long sequenceNumber, List<Person> removedPersons, List<Person> addedPersons) {
+            this.sequenceNumber = sequenceNumber;
+            this.removedPersons = removedPersons;
+            this.addedPersons = addedPersons;
+        }
+
+        public List<Person> getRemovedPersons() {
+            return removedPersons;
+        }
+
+        public List<Person> getAddedPersons() {
+            return addedPersons;
+        }
+    }
+}
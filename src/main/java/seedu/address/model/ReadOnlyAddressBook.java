@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.person.Person;
 
 /**
@@ -14,4 +15,26 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the number of modifications made to this address book so far.
+     * The count never decreases, so an unchanged count means the persons have not changed.
+     */
+    long getModificationCount();
+
+    /**
+     * Returns an immutable snapshot of the persons list, which does not change as this address book changes.
+     * This copies the persons list, unless the address book already keeps a snapshot.
+     */
+    default PersistentList<Person> getSnapshot() {
+        return PersistentList.of(getPersonList());
+    }
+
+    /**
+     * Returns the log of recent changes to the persons of this address book.
+     * Address books that do not record their changes return a new log that shares no history with any other.
+     */
+    default PersonChangeLog getChangeLog() {
+        return PersonChangeLog.start();
+    }
+
 }
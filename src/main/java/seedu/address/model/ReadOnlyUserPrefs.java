@@ -13,4 +13,19 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the maximum number of persons the address book can hold, or a non-positive value for no limit.
+     */
+    int getPersonLimit();
+
+    /**
+     * Returns the estimated memory, in bytes, that the undo history may hold. A non-positive value disables undo.
+     */
+    long getUndoHistoryMemoryLimit();
+
+    /**
+     * Returns the format in which the address book data file is saved. Data files of either format can be read.
+     */
+    AddressBookFormat getAddressBookFormat();
+
 }
@@ -7,14 +7,21 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.UniquePersonList;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    /** Default estimated memory, in bytes, that the undo history may hold. */
+    public static final long DEFAULT_UNDO_HISTORY_MEMORY_LIMIT = 16L * 1024 * 1024;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private int personLimit = UniquePersonList.NO_PERSON_LIMIT;
+    private long undoHistoryMemoryLimit = DEFAULT_UNDO_HISTORY_MEMORY_LIMIT;
+    private AddressBookFormat addressBookFormat = AddressBookFormat.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +43,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setPersonLimit(newUserPrefs.getPersonLimit());
+        setUndoHistoryMemoryLimit(newUserPrefs.getUndoHistoryMemoryLimit());
+        setAddressBookFormat(newUserPrefs.getAddressBookFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +66,31 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public int getPersonLimit() {
+        return personLimit;
+    }
+
+    public void setPersonLimit(int personLimit) {
+        this.personLimit = personLimit;
+    }
+
+    public long getUndoHistoryMemoryLimit() {
+        return undoHistoryMemoryLimit;
+    }
+
+    public void setUndoHistoryMemoryLimit(long undoHistoryMemoryLimit) {
+        this.undoHistoryMemoryLimit = undoHistoryMemoryLimit;
+    }
+
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        requireNonNull(addressBookFormat);
+        this.addressBookFormat = addressBookFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +104,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && personLimit == otherUserPrefs.personLimit
+                && undoHistoryMemoryLimit == otherUserPrefs.undoHistoryMemoryLimit
+                && addressBookFormat == otherUserPrefs.addressBookFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, personLimit, undoHistoryMemoryLimit,
+                addressBookFormat);
     }
 
     @Override
@@ -82,6 +121,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nPerson limit : " + personLimit);
+        sb.append("\nUndo history memory limit : " + undoHistoryMemoryLimit);
+        sb.append("\nData file format : " + addressBookFormat);
         return sb.toString();
     }
 
@@ -5,10 +5,15 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
 
+import seedu.address.model.util.FieldValidator;
+
 /**
  * Represents an Appointment's date and optional time.
  * Guarantees: immutable; is valid as declared in {@link #isValidAppointmentDate(String)}
@@ -23,13 +28,25 @@ public class AppointmentDate implements Comparable<AppointmentDate> {
     public static final String VALIDATION_REGEX =
             "^\\d{4}-\\d{2}-\\d{2}( \\d{2}:\\d{2})?$";
 
+    /** Sort key of an empty appointment date, which orders after every real date. */
+    public static final long NO_DATE_KEY = Long.MAX_VALUE;
+
+    /** Number of minutes in a day, i.e. the width of the key range covered by a date without a time. */
+    public static final long MINUTES_PER_DAY = 24 * 60;
+
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("uuuu-MM-dd")
             .withResolverStyle(ResolverStyle.STRICT);
     private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm")
             .withResolverStyle(ResolverStyle.STRICT);
+    private static final int DATE_LENGTH = "yyyy-MM-dd".length();
+    private static final int DATE_TIME_LENGTH = "yyyy-MM-dd HH:mm".length();
 
     public final String value;
 
+    /** Minutes since 1970-01-01 00:00 of the wall-clock date/time, or {@link #NO_DATE_KEY} if there is no date. */
+    private final long key;
+    private final boolean hasTime;
+
     /**
      * Constructs an {@code AppointmentDate}.
      *
@@ -40,10 +57,21 @@ public class AppointmentDate implements Comparable<AppointmentDate> {
         requireNonNull(input);
         if (input.isEmpty()) {
             this.value = "";
+            this.key = NO_DATE_KEY;
+            this.hasTime = false;
             return;
         }
         checkArgument(isValidAppointmentDate(input), MESSAGE_CONSTRAINTS);
-        this.value = normaliseDate(input);
+        if (hasFormat(input)) {
+            // Already in its normal form, so the key can be read off the digits without parsing
+            this.value = input;
+            this.hasTime = value.length() > DATE_LENGTH;
+            this.key = toKey(value);
+        } else {
+            this.value = normaliseDate(input);
+            this.hasTime = value.length() > DATE_LENGTH;
+            this.key = toKey(parseToLocalDateTime(value));
+        }
     }
 
     /**
@@ -53,10 +81,22 @@ public class AppointmentDate implements Comparable<AppointmentDate> {
      * @return True if the string matches the valid date format; false otherwise.
      */
     public static boolean isValidFormatAppointmentDate(String test) {
-        if (test.isEmpty()) {
-            return true;
+        return test.isEmpty() || hasFormat(test);
+    }
+
+    /**
+     * Returns true if {@code test} matches {@link #VALIDATION_REGEX}.
+     */
+    private static boolean hasFormat(String test) {
+        int length = test.length();
+        if (length != DATE_LENGTH && length != DATE_TIME_LENGTH) {
+            return false;
         }
-        return test.matches(VALIDATION_REGEX);
+        boolean hasDate = FieldValidator.isDigitsAt(test, 0, 4) && test.charAt(4) == '-'
+                && FieldValidator.isDigitsAt(test, 5, 2) && test.charAt(7) == '-'
+                && FieldValidator.isDigitsAt(test, 8, 2);
+        return hasDate && (length == DATE_LENGTH || (test.charAt(10) == ' ' && FieldValidator.isDigitsAt(test, 11, 2)
+                && test.charAt(13) == ':' && FieldValidator.isDigitsAt(test, 14, 2)));
     }
 
     /**
@@ -68,6 +108,10 @@ public class AppointmentDate implements Comparable<AppointmentDate> {
      * @return True if the string represents a valid date or date-time; false otherwise.
      */
     public static boolean isValidAppointmentDate(String test) {
+        if (hasFormat(test)) {
+            // The usual case, checked without the exception thrown by a failed parse
+            return isExistingDateTime(test);
+        }
         try {
             if (test.contains(" ")) {
                 LocalDate.parse(test, DATE_TIME_FORMAT);
@@ -80,6 +124,41 @@ public class AppointmentDate implements Comparable<AppointmentDate> {
         }
     }
 
+    /**
+     * Returns true if {@code test}, which has the format of {@link #VALIDATION_REGEX}, is a date and optional time
+     * that exists, as accepted by the strict formatters.
+     */
+    private static boolean isExistingDateTime(String test) {
+        int year = parseDigits(test, 0, 4);
+        int month = parseDigits(test, 5, 2);
+        int day = parseDigits(test, 8, 2);
+        if (month < 1 || month > 12 || day < 1 || day > Month.of(month).length(Year.isLeap(year))) {
+            return false;
+        }
+        return test.length() == DATE_LENGTH || (parseDigits(test, 11, 2) < 24 && parseDigits(test, 14, 2) < 60);
+    }
+
+    /**
+     * Returns the sort key of {@code value}, a date and optional time that exists in the format of
+     * {@link #VALIDATION_REGEX}.
+     */
+    private static long toKey(String value) {
+        LocalDate date = LocalDate.of(parseDigits(value, 0, 4), parseDigits(value, 5, 2), parseDigits(value, 8, 2));
+        long key = date.toEpochDay() * MINUTES_PER_DAY;
+        if (value.length() > DATE_LENGTH) {
+            key += parseDigits(value, 11, 2) * 60L + parseDigits(value, 14, 2);
+        }
+        return key;
+    }
+
+    private static int parseDigits(String digits, int index, int count) {
+        int number = 0;
+        for (int i = index; i < index + count; i++) {
+            number = number * 10 + (digits.charAt(i) - '0');
+        }
+        return number;
+    }
+
     /**
      * Normalizes the date/time string into a consistent format.
      * If the input includes a time, it combines the date and time into one string in the format
@@ -103,6 +182,29 @@ public class AppointmentDate implements Comparable<AppointmentDate> {
         }
     }
 
+    /**
+     * Returns the sort key of this appointment date: the number of minutes from 1970-01-01 00:00 to the
+     * appointment (midnight for dates without a time), or {@link #NO_DATE_KEY} if there is no date.
+     */
+    public long getKey() {
+        return key;
+    }
+
+    public boolean isEmpty() {
+        return key == NO_DATE_KEY;
+    }
+
+    public boolean hasTime() {
+        return hasTime;
+    }
+
+    /**
+     * Returns the sort key of {@code dateTime}, as described in {@link #getKey()}.
+     */
+    public static long toKey(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
     /**
      * Returns the string representation of the appointment date.
      *
@@ -148,28 +250,14 @@ public class AppointmentDate implements Comparable<AppointmentDate> {
 
     @Override
     public int compareTo(AppointmentDate other) {
-        if (this.value.isEmpty() && other.value.isEmpty()) {
-            return 0;
-        }
-        if (this.value.isEmpty()) {
-            return 1; // Empty dates go to the end
-        }
-        if (other.value.isEmpty()) {
-            return -1;
-        }
-
-        // Try parsing to LocalDateTime for comparison
-        LocalDateTime thisDateTime = parseToLocalDateTime(this.value);
-        LocalDateTime otherDateTime = parseToLocalDateTime(other.value);
-
-        return thisDateTime.compareTo(otherDateTime);
+        return Long.compare(this.key, other.key);
     }
 
     protected static LocalDateTime parseToLocalDateTime(String value) {
         if (value.contains(" ")) {
-            return LocalDateTime.parse(value, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
+            return LocalDateTime.parse(value, DATE_TIME_FORMAT);
         } else {
-            return LocalDate.parse(value, DateTimeFormatter.ofPattern("yyyy-MM-dd")).atStartOfDay();
+            return LocalDate.parse(value, DATE_FORMAT).atStartOfDay();
         }
     }
 }
@@ -1,6 +1,9 @@
 package seedu.address.model.person;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -11,23 +14,58 @@ import seedu.address.commons.util.ToStringBuilder;
 public class AppointmentDateContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
 
+    // Keywords that are valid dates are pre-parsed into key ranges.
+    // Keywords that are not valid dates fall back to matching on the appointment date string.
+    private final List<AppointmentDateRangePredicate> ranges = new ArrayList<>();
+    private final List<String> unparsedKeywords = new ArrayList<>();
+
+    /**
+     * Creates a predicate matching appointments on any of {@code keywords}.
+     * A date-only keyword matches every appointment on that day; a keyword with a time matches that exact time.
+     */
     public AppointmentDateContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+
+        for (String keyword : keywords) {
+            try {
+                AppointmentDate date = new AppointmentDate(keyword);
+                if (date.isEmpty()) {
+                    unparsedKeywords.add(keyword);
+                } else {
+                    ranges.add(new AppointmentDateRangePredicate(date, date));
+                }
+            } catch (IllegalArgumentException e) {
+                unparsedKeywords.add(keyword);
+            }
+        }
     }
 
     @Override
     public boolean test(Person person) {
-        String appointmentDate = person.getAppointmentDate().value;
-
-        return keywords.stream().anyMatch(keyword -> {
-            if (keyword.contains(" ")) {
-                // Full date + time match required
-                return appointmentDate.equals(keyword);
-            } else {
-                // Match by date prefix only
-                return appointmentDate.startsWith(keyword);
+        AppointmentDate appointmentDate = person.getAppointmentDate();
+
+        for (AppointmentDateRangePredicate range : ranges) {
+            // A keyword with a time only matches appointments that have a time too
+            if (range.test(person) && (!range.getStart().hasTime() || appointmentDate.hasTime())) {
+                return true;
             }
-        });
+        }
+
+        for (String keyword : unparsedKeywords) {
+            if (keyword.contains(" ") ? appointmentDate.value.equals(keyword)
+                    : appointmentDate.value.startsWith(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns date ranges covering every appointment matched by this predicate, or an empty {@code Optional} if
+     * some keywords are not dates and can only be matched by testing each person.
+     */
+    public Optional<List<AppointmentDateRangePredicate>> getRanges() {
+        return unparsedKeywords.isEmpty() ? Optional.of(Collections.unmodifiableList(ranges)) : Optional.empty();
     }
 
     @Override
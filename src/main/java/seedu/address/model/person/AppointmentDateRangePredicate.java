@@ -0,0 +1,84 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} has an appointment between two appointment dates, both inclusive.
+ * An empty start or end leaves that side of the range open. An end without a time covers the whole of that day.
+ */
+public class AppointmentDateRangePredicate implements Predicate<Person> {
+    private final AppointmentDate start;
+    private final AppointmentDate end;
+
+    // The range of appointment keys matched, as [lowerKey, upperKey)
+    private final long lowerKey;
+    private final long upperKey;
+
+    /**
+     * Creates a predicate matching appointments from {@code start} to {@code end}.
+     */
+    public AppointmentDateRangePredicate(AppointmentDate start, AppointmentDate end) {
+        requireAllNonNull(start, end);
+        this.start = start;
+        this.end = end;
+        this.lowerKey = start.isEmpty() ? Long.MIN_VALUE : start.getKey();
+        if (end.isEmpty()) {
+            // Persons without an appointment have the largest key, so an exclusive bound on it leaves them out
+            this.upperKey = AppointmentDate.NO_DATE_KEY;
+        } else {
+            this.upperKey = end.getKey() + (end.hasTime() ? 1 : AppointmentDate.MINUTES_PER_DAY);
+        }
+    }
+
+    @Override
+    public boolean test(Person person) {
+        long key = person.getAppointmentDate().getKey();
+        return key >= lowerKey && key < upperKey;
+    }
+
+    /**
+     * Returns the smallest appointment key matched by this predicate.
+     */
+    public long getLowerKey() {
+        return lowerKey;
+    }
+
+    /**
+     * Returns the smallest appointment key after those matched by this predicate.
+     */
+    public long getUpperKey() {
+        return upperKey;
+    }
+
+    public AppointmentDate getStart() {
+        return start;
+    }
+
+    public AppointmentDate getEnd() {
+        return end;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AppointmentDateRangePredicate)) {
+            return false;
+        }
+
+        AppointmentDateRangePredicate otherPredicate = (AppointmentDateRangePredicate) other;
+        return start.equals(otherPredicate.start) && end.equals(otherPredicate.end);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("start", start).add("end", end).toString();
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that a {@code Person} has condition tags matching every clause given, where a clause matches if the person
+ * has any one of the tag names in it. Tag names are matched ignoring case.
+ */
+public class ConditionTagsPredicate implements Predicate<Person> {
+    private final List<List<String>> clauses;
+
+    /**
+     * Creates a predicate that requires, for each clause in {@code clauses}, one of its condition tag names.
+     */
+    public ConditionTagsPredicate(List<List<String>> clauses) {
+        this.clauses = clauses;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (List<String> clause : clauses) {
+            if (!hasAnyTag(person, clause)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasAnyTag(Person person, List<String> tagNames) {
+        for (Tag tag : person.getConditionTags()) {
+            for (String tagName : tagNames) {
+                if (tag.tagName.equalsIgnoreCase(tagName)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the clauses of this predicate. A person must match all clauses, and matches a clause by having any
+     * of the condition tag names in it.
+     */
+    public List<List<String>> getClauses() {
+        return clauses;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ConditionTagsPredicate)) {
+            return false;
+        }
+
+        ConditionTagsPredicate otherPredicate = (ConditionTagsPredicate) other;
+        return clauses.equals(otherPredicate.clauses);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("clauses", clauses).toString();
+    }
+}
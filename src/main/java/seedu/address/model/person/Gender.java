@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.util.FieldValidator;
+
 /**
  * Represents a Person's gender in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidGender(String)}
@@ -32,7 +34,9 @@ public class Gender {
      * Returns true if a given string is a valid gender.
      */
     public static boolean isValidGender(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return FieldValidator.equalsIgnoreAsciiCase(test, "M") || FieldValidator.equalsIgnoreAsciiCase(test, "F")
+                || FieldValidator.equalsIgnoreAsciiCase(test, "male")
+                || FieldValidator.equalsIgnoreAsciiCase(test, "female");
     }
 
     /**
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.util.FieldValidator;
+
 /**
  * Represents a Medicine in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidMedicine(String)}
@@ -48,7 +50,7 @@ public class Medicine {
      * @return True if the given string matches the validation regex, false otherwise.
      */
     public static boolean isValidMedicine(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return FieldValidator.isNonBlankLine(test);
     }
 
     @Override
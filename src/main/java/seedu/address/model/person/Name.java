@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.util.FieldValidator;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -17,9 +19,15 @@ public class Name {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum}/@.'\\- ]{0,49}";
+    private static final int MAX_LENGTH = 50;
+    // The characters other than alphanumerics allowed after the first character
+    private static final String OTHER_CHARACTERS = "/@.'- ";
 
     public final String fullName;
 
+    // Cached for case-insensitive searches, which would otherwise lower-case the name on every comparison
+    private final String lowerCaseName;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -29,13 +37,19 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        lowerCaseName = name.toLowerCase();
+    }
+
+    public String getLowerCaseName() {
+        return lowerCaseName;
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return !test.isEmpty() && test.length() <= MAX_LENGTH && FieldValidator.isAlphanumeric(test.charAt(0))
+                && FieldValidator.isAlphanumericOrAnyOf(test, 1, OTHER_CHARACTERS);
     }
 
 
@@ -1,7 +1,9 @@
 package seedu.address.model.person;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.util.ToStringBuilder;
 
@@ -10,16 +12,25 @@ import seedu.address.commons.util.ToStringBuilder;
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final List<String> lowerCaseKeywords;
 
+    /**
+     * Creates a predicate matching names that contain any of {@code keywords}, ignoring case.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.lowerCaseKeywords = keywords.stream().map(String::toLowerCase).collect(Collectors.toList());
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> person.getName().fullName.toLowerCase().contains(keyword.toLowerCase()));
-
+        String name = person.getName().getLowerCaseName();
+        for (String keyword : lowerCaseKeywords) {
+            if (name.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -42,6 +53,13 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
     }
 
+    /**
+     * Returns the keywords in lower case, as they are matched against names.
+     */
+    public List<String> getLowerCaseKeywords() {
+        return Collections.unmodifiableList(lowerCaseKeywords);
+    }
+
     /**
      * Getter for keywords
      * @return the keywords
@@ -0,0 +1,90 @@
+package seedu.address.model.person;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * An inverted index from each three-character substring (trigram) of a lower-cased name to the persons whose names
+ * contain it. A keyword of at least three characters can only be a substring of names containing all of its
+ * trigrams, so intersecting their posting lists narrows a substring search down to a few candidates.
+ */
+class NameTrigramIndex {
+
+    /** Keywords shorter than this have no trigrams and cannot be answered by the index. */
+    static final int MIN_KEYWORD_LENGTH = 3;
+
+    private final Map<Long, Set<Person>> postings = new HashMap<>();
+
+    /**
+     * Adds {@code person} to the posting list of every trigram in its name.
+     */
+    void add(Person person) {
+        String name = person.getName().getLowerCaseName();
+        for (int i = 0; i + MIN_KEYWORD_LENGTH <= name.length(); i++) {
+            postings.computeIfAbsent(trigramAt(name, i), key -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person}, which must be the same instance that was added, from the index.
+     */
+    void remove(Person person) {
+        String name = person.getName().getLowerCaseName();
+        for (int i = 0; i + MIN_KEYWORD_LENGTH <= name.length(); i++) {
+            long trigram = trigramAt(name, i);
+            Set<Person> posting = postings.get(trigram);
+            if (posting != null && posting.remove(person) && posting.isEmpty()) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the persons whose names contain every trigram of {@code lowerCaseKeyword}, or an empty
+     * {@code Optional} if the keyword is too short to be answered by the index.
+     * The result is a superset of the persons whose names contain the keyword and must still be verified.
+     */
+    Optional<Set<Person>> findCandidates(String lowerCaseKeyword) {
+        if (lowerCaseKeyword.length() < MIN_KEYWORD_LENGTH) {
+            return Optional.empty();
+        }
+
+        // Intersection starts from the rarest trigram so that the working set is as small as possible
+        Set<Person> smallest = null;
+        for (int i = 0; i + MIN_KEYWORD_LENGTH <= lowerCaseKeyword.length(); i++) {
+            Set<Person> posting = postings.get(trigramAt(lowerCaseKeyword, i));
+            if (posting == null) {
+                return Optional.of(Collections.emptySet());
+            }
+            if (smallest == null || posting.size() < smallest.size()) {
+                smallest = posting;
+            }
+        }
+
+        Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        candidates.addAll(smallest);
+        for (int i = 0; i + MIN_KEYWORD_LENGTH <= lowerCaseKeyword.length() && !candidates.isEmpty(); i++) {
+            Set<Person> posting = postings.get(trigramAt(lowerCaseKeyword, i));
+            if (posting != smallest) {
+                candidates.retainAll(posting);
+            }
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * Packs the three characters of {@code text} starting at {@code index} into a single key.
+     */
+    private static long trigramAt(String text, int index) {
+        return ((long) text.charAt(index) << 32) | ((long) text.charAt(index + 1) << 16) | text.charAt(index + 2);
+    }
+}
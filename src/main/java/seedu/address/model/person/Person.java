@@ -2,14 +2,13 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Person in the address book.
@@ -18,7 +17,8 @@ import seedu.address.model.tag.Tag;
 public class Person {
 
     // Comparator to compare persons by appointment date and time
-    public static final Comparator<Person> COMPARE_BY_APPOINTMENT = Comparator.comparing(Person::getAppointmentDate);
+    public static final Comparator<Person> COMPARE_BY_APPOINTMENT =
+            Comparator.comparingLong(person -> person.appointmentDate.getKey());
 
     // Identity fields
     private final Name name;
@@ -29,8 +29,8 @@ public class Person {
     private final Address address;
     private final AppointmentDate appointmentDate;
     private final Medicine medicine;
-    private final Set<Tag> conditionTags = new HashSet<>();
-    private final Set<Tag> detailTags = new HashSet<>();
+    private final TagSet conditionTags;
+    private final TagSet detailTags;
 
     /**
      * Every field must be present and not null.
@@ -44,8 +44,8 @@ public class Person {
         this.gender = gender;
         this.appointmentDate = appointmentDate;
         this.medicine = medicine;
-        this.conditionTags.addAll(conditionTags);
-        this.detailTags.addAll(detailTags);
+        this.conditionTags = TagSet.of(conditionTags);
+        this.detailTags = TagSet.of(detailTags);
     }
 
     public Name getName() {
@@ -77,7 +77,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getConditionTags() {
-        return Collections.unmodifiableSet(conditionTags);
+        return conditionTags;
     }
 
     /**
@@ -85,7 +85,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getDetailTags() {
-        return Collections.unmodifiableSet(detailTags);
+        return detailTags;
     }
 
     /**
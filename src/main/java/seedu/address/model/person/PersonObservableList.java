@@ -0,0 +1,59 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable array list of persons that can also move a person to another position as a single change.
+ * Moving through {@code remove} and {@code add} would notify listeners twice, and they would see a removal followed
+ * by an insertion rather than the person being replaced.
+ */
+class PersonObservableList extends ModifiableObservableListBase<Person> {
+
+    private final List<Person> persons = new ArrayList<>();
+
+    /**
+     * Removes the person at {@code from} and inserts {@code person} at {@code to}, the position it takes in the list
+     * once the removed person is gone. Listeners see one replacement of the positions from {@code from} to {@code to},
+     * which holds the persons moved past as well as the moved person.
+     */
+    void move(int from, int to, Person person) {
+        int start = Math.min(from, to);
+        int end = Math.max(from, to) + 1;
+        List<Person> removed = new ArrayList<>(persons.subList(start, end));
+
+        persons.remove(from);
+        persons.add(to, person);
+        modCount++;
+        beginChange();
+        nextReplace(start, end, removed);
+        endChange();
+    }
+
+    @Override
+    public Person get(int index) {
+        return persons.get(index);
+    }
+
+    @Override
+    public int size() {
+        return persons.size();
+    }
+
+    @Override
+    protected void doAdd(int index, Person element) {
+        persons.add(index, element);
+    }
+
+    @Override
+    protected Person doSet(int index, Person element) {
+        return persons.set(index, element);
+    }
+
+    @Override
+    protected Person doRemove(int index) {
+        return persons.remove(index);
+    }
+}
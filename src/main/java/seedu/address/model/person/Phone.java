@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.util.FieldValidator;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -14,6 +16,8 @@ public class Phone {
             "Phone numbers should only contain numbers, and it should be at least 3 digits long"
                     + " and at most 15 digits long";
     public static final String VALIDATION_REGEX = "\\d{3,15}";
+    private static final int MIN_LENGTH = 3;
+    private static final int MAX_LENGTH = 15;
     public final String value;
 
     /**
@@ -31,7 +35,7 @@ public class Phone {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return FieldValidator.isDigits(test, MIN_LENGTH, MAX_LENGTH);
     }
 
     @Override
@@ -0,0 +1,104 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.tag.TagSet;
+
+/**
+ * Posting lists from {@link seedu.address.model.tag.TagDictionary} ids to the persons carrying each tag.
+ * Every person is given a small slot number that stays fixed while it is indexed, and each posting list is a
+ * {@code BitSet} over those slots, so tag queries combine postings with bitwise operations.
+ */
+class TagIndex {
+
+    private final Map<Person, Integer> slots = new IdentityHashMap<>();
+    private final List<Person> personsBySlot = new ArrayList<>();
+    private final BitSet freeSlots = new BitSet();
+    private final List<BitSet> postings = new ArrayList<>();
+
+    /**
+     * Adds {@code person} to the posting list of each of its condition and detail tags.
+     */
+    void add(Person person) {
+        int slot = freeSlots.nextSetBit(0);
+        if (slot < 0) {
+            slot = personsBySlot.size();
+            personsBySlot.add(person);
+        } else {
+            freeSlots.clear(slot);
+            personsBySlot.set(slot, person);
+        }
+        slots.put(person, slot);
+
+        int personSlot = slot;
+        TagSet.of(person.getConditionTags()).forEachId(id -> postingOf(id).set(personSlot));
+        TagSet.of(person.getDetailTags()).forEachId(id -> postingOf(id).set(personSlot));
+    }
+
+    /**
+     * Removes {@code person}, which must be the same instance that was added, from the index.
+     */
+    void remove(Person person) {
+        Integer slot = slots.remove(person);
+        if (slot == null) {
+            return;
+        }
+        TagSet.of(person.getConditionTags()).forEachId(id -> postings.get(id).clear(slot));
+        TagSet.of(person.getDetailTags()).forEachId(id -> postings.get(id).clear(slot));
+        personsBySlot.set(slot, null);
+        freeSlots.set(slot);
+    }
+
+    void clear() {
+        slots.clear();
+        personsBySlot.clear();
+        freeSlots.clear();
+        postings.clear();
+    }
+
+    /**
+     * Returns the persons that carry, for every clause in {@code tagIdClauses}, at least one of the tags in it.
+     */
+    List<Person> findAll(List<? extends Collection<Integer>> tagIdClauses) {
+        BitSet matches = null;
+        for (Collection<Integer> clause : tagIdClauses) {
+            BitSet clauseMatches = new BitSet();
+            for (int id : clause) {
+                if (id < postings.size() && postings.get(id) != null) {
+                    clauseMatches.or(postings.get(id));
+                }
+            }
+            if (matches == null) {
+                matches = clauseMatches;
+            } else {
+                matches.and(clauseMatches);
+            }
+            if (matches.isEmpty()) {
+                break;
+            }
+        }
+
+        List<Person> persons = new ArrayList<>();
+        if (matches != null) {
+            for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+                persons.add(personsBySlot.get(slot));
+            }
+        }
+        return persons;
+    }
+
+    private BitSet postingOf(int id) {
+        while (postings.size() <= id) {
+            postings.add(null);
+        }
+        if (postings.get(id) == null) {
+            postings.set(id, new BitSet());
+        }
+        return postings.get(id);
+    }
+}
@@ -3,11 +3,22 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonLimitReachedException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -19,23 +30,61 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. An index keyed on the identity fields (name and phone) is maintained
+ * alongside the list so that duplicate checks do not need to scan every person. Every change is also mirrored into an
+ * immutable {@link PersistentList}, so that a snapshot of the list can be taken in O(1) time for undo history.
+ * Each person is also given a rank that increases along the list, so that the list order of any persons can be
+ * compared without searching for their positions.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private static final int MAX_PERSON_LIMIT = 30;
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    /** Value of {@link #setPersonLimit(int)} that places no limit on the number of persons. */
+    public static final int NO_PERSON_LIMIT = 0;
+
+    private static final String MESSAGE_DUPLICATE_PAIR = "%1$s (%2$s) at positions %3$d and %4$d";
+
+    // Spacing between the ranks of consecutive persons, so that a person can be ranked between two others
+    private static final long RANK_GAP = 1L << 20;
+
+    private final PersonObservableList internalList = new PersonObservableList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Identity, Person> identityIndex = new HashMap<>();
+    private final NameTrigramIndex nameIndex = new NameTrigramIndex();
+    private final TagIndex tagIndex = new TagIndex();
+    private final Map<Person, Long> ranks = new IdentityHashMap<>();
+    private final Comparator<Person> listOrder = Comparator.comparingLong(ranks::get);
+    private PersistentList<Person> snapshot = PersistentList.empty();
+    private int personLimit = NO_PERSON_LIMIT;
+
+    /**
+     * Sets the maximum number of persons that can be added to this list.
+     * A limit of {@link #NO_PERSON_LIMIT} (or any non-positive value) removes the limit.
+     */
+    public void setPersonLimit(int personLimit) {
+        this.personLimit = personLimit;
+    }
+
+    public int getPersonLimit() {
+        return personLimit;
+    }
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(Identity.of(toCheck));
+    }
+
+    /**
+     * Returns the person in the list with the same identity as {@code toFind}, if there is one.
+     */
+    public Optional<Person> find(Person toFind) {
+        requireNonNull(toFind);
+        return Optional.ofNullable(identityIndex.get(Identity.of(toFind)));
     }
 
     /**
@@ -45,14 +94,64 @@ public class UniquePersonList implements Iterable<Person> {
     public void add(Person toAdd) {
         requireNonNull(toAdd);
 
-        if (internalList.size() >= MAX_PERSON_LIMIT) {
+        if (personLimit > NO_PERSON_LIMIT && internalList.size() >= personLimit) {
             throw new PersonLimitReachedException();
         }
-        if (contains(toAdd)) {
+        if (identityIndex.putIfAbsent(Identity.of(toAdd), toAdd) != null) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
-        sortList();
+        nameIndex.add(toAdd);
+        tagIndex.add(toAdd);
+        int index = upperBound(toAdd.getAppointmentDate().getKey());
+        ranks.put(toAdd, rankAt(index));
+        internalList.add(index, toAdd);
+        snapshot = snapshot.add(index, toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the list at once, so the list is re-ordered and its listeners are notified only
+     * once. Each added person is placed after the persons already in the list with the same appointment key.
+     *
+     * @throws PersonLimitReachedException if adding every person would exceed the person limit.
+     * @throws DuplicatePersonException if any person in {@code toAdd} has the same identity as another one or as a
+     *     person in the list.
+     *     In either case, no person is added.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+
+        if (personLimit > NO_PERSON_LIMIT && internalList.size() + toAdd.size() > personLimit) {
+            throw new PersonLimitReachedException();
+        }
+        Map<Identity, Person> addedIndex = buildIdentityIndex(toAdd);
+        for (Identity identity : addedIndex.keySet()) {
+            if (identityIndex.containsKey(identity)) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        identityIndex.putAll(addedIndex);
+        for (Person person : toAdd) {
+            nameIndex.add(person);
+            tagIndex.add(person);
+        }
+
+        List<Person> sortedToAdd = new ArrayList<>(toAdd);
+        sortedToAdd.sort(Person.COMPARE_BY_APPOINTMENT);
+        List<Person> merged = new ArrayList<>(internalList.size() + sortedToAdd.size());
+        int next = 0;
+        for (Person person : internalList) {
+            while (next < sortedToAdd.size()
+                    && Person.COMPARE_BY_APPOINTMENT.compare(sortedToAdd.get(next), person) < 0) {
+                merged.add(sortedToAdd.get(next++));
+            }
+            merged.add(person);
+        }
+        merged.addAll(sortedToAdd.subList(next, sortedToAdd.size()));
+
+        assignRanks(merged);
+        internalList.setAll(merged);
+        snapshot = PersistentList.of(merged);
     }
 
     /**
@@ -60,7 +159,13 @@ public class UniquePersonList implements Iterable<Person> {
      * Persons without an appointment date are placed at the end of the list.
      */
     public void sortList() {
-        internalList.sort(Person.COMPARE_BY_APPOINTMENT);
+        if (!isOrderedByAppointment(internalList)) {
+            List<Person> sortedPersons = new ArrayList<>(internalList);
+            sortedPersons.sort(Person.COMPARE_BY_APPOINTMENT);
+            assignRanks(sortedPersons);
+            internalList.setAll(sortedPersons);
+            snapshot = PersistentList.of(sortedPersons);
+        }
     }
 
     /**
@@ -71,17 +176,44 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Identity targetIdentity = Identity.of(target);
+        Person storedTarget = identityIndex.get(targetIdentity);
+        if (!target.equals(storedTarget)) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        Identity editedIdentity = Identity.of(editedPerson);
+        if (!targetIdentity.equals(editedIdentity) && identityIndex.containsKey(editedIdentity)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
-        sortList();
+        int index = indexOf(storedTarget);
+        identityIndex.remove(targetIdentity);
+        identityIndex.put(editedIdentity, editedPerson);
+        nameIndex.remove(storedTarget);
+        nameIndex.add(editedPerson);
+        tagIndex.remove(storedTarget);
+        tagIndex.add(editedPerson);
+
+        // Positions are computed as if target were already removed. Among persons with an equal appointment key,
+        // the edited person keeps its original relative order, matching what a stable sort would produce.
+        long editedKey = editedPerson.getAppointmentDate().getKey();
+        int lower = search(editedKey, false, index, index + 1);
+        int upper = search(editedKey, true, index, index + 1);
+        int newIndex = Math.max(lower, Math.min(index, upper));
+        if (newIndex == index) {
+            ranks.put(editedPerson, ranks.remove(storedTarget));
+            internalList.set(index, editedPerson);
+            snapshot = snapshot.set(index, editedPerson);
+        } else {
+            // Ranked before the move, as listeners compare the edited person by rank; the new neighbours are found
+            // in the list that still holds target
+            long rank = newIndex < index ? rankBetween(newIndex - 1, newIndex) : rankBetween(newIndex, newIndex + 1);
+            ranks.remove(storedTarget);
+            ranks.put(editedPerson, rank);
+            internalList.move(index, newIndex, editedPerson);
+            snapshot = snapshot.remove(index).add(newIndex, editedPerson);
+        }
     }
 
     /**
@@ -90,27 +222,213 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Identity identity = Identity.of(toRemove);
+        Person storedPerson = identityIndex.get(identity);
+        if (!toRemove.equals(storedPerson)) {
             throw new PersonNotFoundException();
         }
+        identityIndex.remove(identity);
+        nameIndex.remove(storedPerson);
+        tagIndex.remove(storedPerson);
+        int index = indexOf(storedPerson);
+        ranks.remove(storedPerson);
+        internalList.remove(index);
+        snapshot = snapshot.remove(index);
+    }
+
+    /**
+     * Replaces each person in {@code targets} with the person at the same position in {@code editedPersons}, as a
+     * single change: the list is re-ordered and its listeners are notified only once. Among persons with an equal
+     * appointment key, the edited persons keep their original relative order.
+     *
+     * @throws PersonNotFoundException if a person in {@code targets} does not exist in the list.
+     * @throws DuplicatePersonException if a person in {@code targets} appears more than once, or a person in
+     *     {@code editedPersons} has the same identity as another edited person or as a person that is not replaced.
+     *     In either case, no person is replaced.
+     */
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        requireAllNonNull(targets);
+        requireAllNonNull(editedPersons);
+        if (targets.size() != editedPersons.size()) {
+            throw new IllegalArgumentException("Every target must have exactly one edited person.");
+        }
+
+        Map<Person, Person> replacements = new IdentityHashMap<>(targets.size());
+        Set<Identity> targetIdentities = new HashSet<>(targets.size() * 4 / 3 + 1);
+        for (int i = 0; i < targets.size(); i++) {
+            Person storedTarget = findStored(targets.get(i));
+            if (replacements.put(storedTarget, editedPersons.get(i)) != null) {
+                throw new DuplicatePersonException();
+            }
+            targetIdentities.add(Identity.of(storedTarget));
+        }
+        Map<Identity, Person> editedIndex = buildIdentityIndex(editedPersons);
+        for (Identity identity : editedIndex.keySet()) {
+            if (identityIndex.containsKey(identity) && !targetIdentities.contains(identity)) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        identityIndex.keySet().removeAll(targetIdentities);
+        identityIndex.putAll(editedIndex);
+        for (Map.Entry<Person, Person> replacement : replacements.entrySet()) {
+            nameIndex.remove(replacement.getKey());
+            nameIndex.add(replacement.getValue());
+            tagIndex.remove(replacement.getKey());
+            tagIndex.add(replacement.getValue());
+        }
+
+        List<Person> updated = new ArrayList<>(internalList.size());
+        for (Person person : internalList) {
+            updated.add(replacements.getOrDefault(person, person));
+        }
+        if (!isOrderedByAppointment(updated)) {
+            updated.sort(Person.COMPARE_BY_APPOINTMENT);
+        }
+        assignRanks(updated);
+        internalList.setAll(updated);
+        snapshot = PersistentList.of(updated);
+    }
+
+    /**
+     * Removes the equivalent persons of {@code toRemove} from the list as a single change, so its listeners are
+     * notified only once.
+     *
+     * @throws PersonNotFoundException if a person in {@code toRemove} does not exist in the list, in which case no
+     *     person is removed.
+     */
+    public void removeAll(List<Person> toRemove) {
+        requireAllNonNull(toRemove);
+
+        Set<Person> storedPersons = Collections.newSetFromMap(new IdentityHashMap<>(toRemove.size()));
+        for (Person person : toRemove) {
+            storedPersons.add(findStored(person));
+        }
+
+        for (Person storedPerson : storedPersons) {
+            identityIndex.remove(Identity.of(storedPerson));
+            nameIndex.remove(storedPerson);
+            tagIndex.remove(storedPerson);
+            ranks.remove(storedPerson);
+        }
+        List<Person> remaining = new ArrayList<>(internalList.size() - storedPersons.size());
+        for (Person person : internalList) {
+            if (!storedPersons.contains(person)) {
+                remaining.add(person);
+            }
+        }
+        internalList.setAll(remaining);
+        snapshot = PersistentList.of(remaining);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        rebuildSearchIndexes(replacement.internalList);
+        ranks.clear();
+        ranks.putAll(replacement.ranks);
         internalList.setAll(replacement.internalList);
+        snapshot = replacement.snapshot;
     }
 
     /**
-     * Replaces the contents of this list with {@code persons}.
+     * Replaces the contents of this list with {@code persons}, ordered by appointment.
      * {@code persons} must not contain duplicate persons.
+     * Persons that are not already in order, such as those of a data file edited by hand, are sorted here, so that
+     * the list is kept in order by every operation.
+     *
+     * @throws DuplicatePersonException listing every pair of persons in {@code persons} with the same identity.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Map<Identity, Person> newIndex = buildIdentityIndex(persons);
+
+        identityIndex.clear();
+        identityIndex.putAll(newIndex);
+        rebuildSearchIndexes(persons);
+        List<Person> sortedPersons = persons;
+        if (!isOrderedByAppointment(persons)) {
+            sortedPersons = new ArrayList<>(persons);
+            sortedPersons.sort(Person.COMPARE_BY_APPOINTMENT);
         }
+        assignRanks(sortedPersons);
+        internalList.setAll(sortedPersons);
+        snapshot = PersistentList.of(internalList);
+    }
 
+    /**
+     * Returns an immutable snapshot of the persons in this list, in list order.
+     * Snapshots taken between small changes share most of their structure, so keeping many of them is cheap.
+     */
+    public PersistentList<Person> getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Replaces the contents of this list with the persons in {@code snapshot}, which must have been returned by
+     * {@link #getSnapshot()} of a {@code UniquePersonList}.
+     */
+    public void restoreSnapshot(PersistentList<Person> snapshot) {
+        requireNonNull(snapshot);
+        List<Person> persons = snapshot.toList();
+        Map<Identity, Person> newIndex = buildIdentityIndex(persons);
+
+        identityIndex.clear();
+        identityIndex.putAll(newIndex);
+        rebuildSearchIndexes(persons);
+        assignRanks(persons);
         internalList.setAll(persons);
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Returns the persons whose appointment key lies in {@code [fromKey, toKey)}, in list order.
+     * As the list is kept ordered by appointment, this takes two binary searches plus the size of the result.
+     *
+     * @see AppointmentDate#getKey()
+     */
+    public List<Person> getPersonsWithAppointmentBetween(long fromKey, long toKey) {
+        int from = lowerBound(fromKey);
+        int to = Math.max(from, lowerBound(toKey));
+        return List.copyOf(internalList.subList(from, to));
+    }
+
+    /**
+     * Returns the persons whose lower-cased names may contain {@code lowerCaseKeyword}, or an empty
+     * {@code Optional} if the keyword is too short to be looked up in the name index.
+     * The candidates are found by intersecting trigram posting lists and must still be verified by the caller.
+     */
+    public Optional<Set<Person>> findNameCandidates(String lowerCaseKeyword) {
+        requireNonNull(lowerCaseKeyword);
+        return nameIndex.findCandidates(lowerCaseKeyword);
+    }
+
+    /**
+     * Returns the persons that have, for every clause in {@code tagIdClauses}, at least one of the tags whose
+     * {@link seedu.address.model.tag.TagDictionary} ids are in that clause.
+     */
+    public List<Person> findPersonsWithTags(List<? extends Collection<Integer>> tagIdClauses) {
+        requireNonNull(tagIdClauses);
+        return tagIndex.findAll(tagIdClauses);
+    }
+
+    /**
+     * Returns a comparator that orders persons in this list by their positions in it.
+     * Only persons currently in the list, as returned by it or its indexes, can be compared.
+     * A comparison takes O(1) time, so k persons can be put in list order without scanning the list.
+     */
+    public Comparator<Person> getListOrder() {
+        return listOrder;
+    }
+
+    private void rebuildSearchIndexes(List<Person> persons) {
+        nameIndex.clear();
+        tagIndex.clear();
+        for (Person person : persons) {
+            nameIndex.add(person);
+            tagIndex.add(person);
+        }
     }
 
     /**
@@ -151,16 +469,187 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the person stored in the list that is equal to {@code person}.
+     *
+     * @throws PersonNotFoundException if the list does not contain {@code person}.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private Person findStored(Person person) {
+        Person storedPerson = identityIndex.get(Identity.of(person));
+        if (!person.equals(storedPerson)) {
+            throw new PersonNotFoundException();
+        }
+        return storedPerson;
+    }
+
+    /**
+     * Returns the position of {@code storedPerson}, which must be a person in the list, by binary search on ranks.
+     */
+    private int indexOf(Person storedPerson) {
+        int index = Collections.binarySearch(internalList, storedPerson, listOrder);
+        if (index < 0) {
+            throw new PersonNotFoundException();
+        }
+        return index;
+    }
+
+    /**
+     * Returns a rank for a person about to be inserted at {@code index}, between the ranks of its new neighbours.
+     */
+    private long rankAt(int index) {
+        return rankBetween(index - 1, index);
+    }
+
+    /**
+     * Returns a rank between the ranks of the persons at {@code beforeIndex} and {@code afterIndex}, where -1 and the
+     * size of the list stand for its ends. If there is no rank left between them, every person in the list is ranked
+     * again first.
+     */
+    private long rankBetween(int beforeIndex, int afterIndex) {
+        boolean hasBefore = beforeIndex >= 0;
+        boolean hasAfter = afterIndex < internalList.size();
+        if (!hasBefore && !hasAfter) {
+            return 0;
+        } else if (!hasBefore) {
+            return ranks.get(internalList.get(afterIndex)) - RANK_GAP;
+        } else if (!hasAfter) {
+            return ranks.get(internalList.get(beforeIndex)) + RANK_GAP;
+        }
+
+        long before = ranks.get(internalList.get(beforeIndex));
+        long after = ranks.get(internalList.get(afterIndex));
+        if (after - before < 2) {
+            assignRanks(internalList);
+            return rankBetween(beforeIndex, afterIndex);
+        }
+        return before + (after - before) / 2;
+    }
+
+    /**
+     * Ranks {@code persons}, which are in list order, evenly from zero.
+     */
+    private void assignRanks(List<Person> persons) {
+        ranks.clear();
+        for (int i = 0; i < persons.size(); i++) {
+            ranks.put(persons.get(i), i * RANK_GAP);
+        }
+    }
+
+    /**
+     * Returns the index of the first person whose appointment key is not less than {@code key}.
+     */
+    private int lowerBound(long key) {
+        return search(key, false, internalList.size(), internalList.size());
+    }
+
+    /**
+     * Returns the index of the first person whose appointment key is greater than {@code key}.
+     */
+    private int upperBound(long key) {
+        return search(key, true, internalList.size(), internalList.size());
+    }
+
+    /**
+     * Binary searches the list, with the persons in {@code [gapStart, gapEnd)} left out, for the first person whose
+     * appointment key is greater than {@code key} (or equal to it, unless {@code skipEqual} is set).
+     * The returned position is relative to the list with the gap removed.
+     */
+    private int search(long key, boolean skipEqual, int gapStart, int gapEnd) {
+        int low = 0;
+        int high = internalList.size() - (gapEnd - gapStart);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            Person midPerson = internalList.get(mid < gapStart ? mid : mid + gapEnd - gapStart);
+            long midKey = midPerson.getAppointmentDate().getKey();
+            if (midKey < key || (skipEqual && midKey == key)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns true if {@code persons} is ordered by {@link Person#COMPARE_BY_APPOINTMENT}.
+     */
+    private static boolean isOrderedByAppointment(List<Person> persons) {
+        for (int i = 1; i < persons.size(); i++) {
+            if (Person.COMPARE_BY_APPOINTMENT.compare(persons.get(i - 1), persons.get(i)) > 0) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Returns an identity index of {@code persons} built in a single pass.
+     *
+     * @throws DuplicatePersonException if {@code persons} contains persons with the same identity.
+     *     Every duplicate is reported against the first person with that identity, using 1-based positions.
+     */
+    private static Map<Identity, Person> buildIdentityIndex(List<Person> persons) {
+        Map<Identity, Person> index = new HashMap<>(persons.size() * 4 / 3 + 1);
+        Map<Identity, Integer> firstPositions = new HashMap<>();
+        List<String> duplicates = new ArrayList<>();
+
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            Identity identity = Identity.of(person);
+            boolean isDuplicate = index.putIfAbsent(identity, person) != null;
+            if (isDuplicate && firstPositions.isEmpty()) {
+                // Positions are only needed once a duplicate exists, so they are recovered lazily
+                for (int j = 0; j < i; j++) {
+                    firstPositions.putIfAbsent(Identity.of(persons.get(j)), j);
+                }
+            }
+            if (!firstPositions.isEmpty()) {
+                firstPositions.putIfAbsent(identity, i);
+            }
+            if (isDuplicate) {
+                duplicates.add(String.format(MESSAGE_DUPLICATE_PAIR, person.getName(), person.getPhone(),
+                        firstPositions.get(identity) + 1, i + 1));
+            }
+        }
+
+        if (!duplicates.isEmpty()) {
+            throw new DuplicatePersonException(duplicates);
+        }
+        return index;
+    }
+
+    /**
+     * The identity fields of a {@code Person}, as compared by {@link Person#isSamePerson(Person)}.
+     */
+    private static final class Identity {
+        private final Name name;
+        private final Phone phone;
+
+        private Identity(Name name, Phone phone) {
+            this.name = name;
+            this.phone = phone;
+        }
+
+        static Identity of(Person person) {
+            return new Identity(person.getName(), person.getPhone());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof Identity)) {
+                return false;
+            }
+
+            Identity otherIdentity = (Identity) other;
+            return name.equals(otherIdentity.name) && phone.equals(otherIdentity.phone);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * name.hashCode() + phone.hashCode();
+        }
+    }
 }
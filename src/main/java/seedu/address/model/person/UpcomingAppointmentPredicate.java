@@ -1,36 +1,42 @@
 package seedu.address.model.person;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.function.Predicate;
 
 /**
- * Tests if a Person has an appointment after the current system time.
+ * Tests if a Person has an appointment after the time the predicate was created.
  */
 public class UpcomingAppointmentPredicate implements Predicate<Person> {
 
-    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    // An appointment without a time is treated as lasting until 23:59 of its day
+    private static final long MINUTES_TO_END_OF_DAY = AppointmentDate.MINUTES_PER_DAY - 1;
+
+    private final long referenceKey;
+
+    public UpcomingAppointmentPredicate() {
+        this(LocalDateTime.now());
+    }
+
+    /**
+     * Creates a predicate that accepts persons whose appointment is after {@code referenceTime}.
+     */
+    public UpcomingAppointmentPredicate(LocalDateTime referenceTime) {
+        // Appointments fall on whole minutes, so being after the reference time is the same as being after
+        // the minute that contains it
+        this.referenceKey = AppointmentDate.toKey(referenceTime);
+    }
 
     @Override
     public boolean test(Person person) {
-        try {
-            String appointmentValue = person.getAppointmentDate().value.trim();
-
-            // Try parsing with full datetime first
-            if (appointmentValue.contains(":")) {
-                LocalDateTime appointmentDateTime = LocalDateTime.parse(appointmentValue, DATE_TIME_FORMAT);
-                return appointmentDateTime.isAfter(LocalDateTime.now());
-            } else {
-                // If only date is provided, treat the time as 23:59
-                LocalDate appointmentDate = LocalDate.parse(appointmentValue, DATE_FORMAT);
-                LocalDateTime endOfDay = appointmentDate.atTime(23, 59);
-                return endOfDay.isAfter(LocalDateTime.now());
-            }
-        } catch (Exception e) {
+        AppointmentDate appointmentDate = person.getAppointmentDate();
+        if (appointmentDate.isEmpty()) {
             return false;
         }
+
+        long appointmentKey = appointmentDate.hasTime()
+                ? appointmentDate.getKey()
+                : appointmentDate.getKey() + MINUTES_TO_END_OF_DAY;
+        return appointmentKey > referenceKey;
     }
 
     @Override
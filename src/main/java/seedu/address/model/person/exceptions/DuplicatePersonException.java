@@ -1,11 +1,31 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.List;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+    private final List<String> duplicates;
+
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        duplicates = List.of();
+    }
+
+    /**
+     * Creates an exception describing each pair of duplicate persons found in {@code duplicates}.
+     */
+    public DuplicatePersonException(List<String> duplicates) {
+        super("Operation would result in duplicate persons: " + String.join("; ", duplicates));
+        this.duplicates = List.copyOf(duplicates);
+    }
+
+    /**
+     * Returns a description of every duplicate pair found, or an empty list if they were not collected.
+     */
+    public List<String> getDuplicates() {
+        return duplicates;
     }
 }
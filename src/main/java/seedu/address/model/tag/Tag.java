@@ -5,6 +5,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Objects;
 
+import seedu.address.model.util.FieldValidator;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,6 +14,7 @@ import java.util.Objects;
 public class Tag {
 
     public static final String VALIDATION_REGEX = "[\\p{Alnum} \\-']+";
+    private static final String OTHER_CHARACTERS = " -'";
 
     /**
      * Represents the type of tag.
@@ -62,7 +65,7 @@ public class Tag {
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return !test.isEmpty() && FieldValidator.isAlphanumericOrAnyOf(test, 0, OTHER_CHARACTERS);
     }
 
     /**
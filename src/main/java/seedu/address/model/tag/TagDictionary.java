@@ -0,0 +1,108 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Interns every distinct tag (name and type) used by the application and assigns it a small integer id.
+ * Persons store their tags as sorted id arrays (see {@link TagSet}), so each distinct tag exists only once in memory
+ * and a tag name is validated only the first time it is seen.
+ * Ids are never reused for a different tag. The dictionary is safe to use from multiple threads.
+ *
+ * <p>The dictionary is global and lives as long as the application. Persons share their tag sets with every copy of
+ * them, such as the snapshots kept for undo and saving, so a tag is never removed: any id still held anywhere keeps
+ * naming the same tag. The dictionary therefore grows with the number of distinct tags ever seen, at one {@code Tag}
+ * each, rather than with the number of persons. Searching validates tag names without interning them, so queries do
+ * not add to it. Ids depend on the order tags are first seen, so code and tests may only rely on equal tags having
+ * equal ids, not on particular values.
+ */
+public final class TagDictionary {
+
+    private static final Map<Tag.TagType, Map<String, Integer>> IDS_BY_TYPE = new EnumMap<>(Tag.TagType.class);
+    // The ids of the tags of each type with each lower-cased name, so that lookups ignoring case need no scan
+    private static final Map<Tag.TagType, Map<String, List<Integer>>> IDS_BY_LOWER_CASE_NAME =
+            new EnumMap<>(Tag.TagType.class);
+    private static volatile Tag[] tags = new Tag[64];
+    private static int size = 0;
+
+    static {
+        for (Tag.TagType type : Tag.TagType.values()) {
+            IDS_BY_TYPE.put(type, new ConcurrentHashMap<>());
+            IDS_BY_LOWER_CASE_NAME.put(type, new ConcurrentHashMap<>());
+        }
+    }
+
+    private TagDictionary() {}
+
+    /**
+     * Returns the canonical {@code Tag} with the given name and type, creating it if it has not been seen before.
+     *
+     * @throws IllegalArgumentException if the tag has not been seen before and {@code tagName} is not valid.
+     */
+    public static Tag intern(String tagName, Tag.TagType tagType) {
+        requireNonNull(tagName);
+        requireNonNull(tagType);
+        Integer id = IDS_BY_TYPE.get(tagType).get(tagName);
+        return id != null ? tags[id] : tags[add(new Tag(tagName, tagType))];
+    }
+
+    /**
+     * Returns the id of {@code tag}, assigning a new one if the tag has not been seen before.
+     */
+    public static int idOf(Tag tag) {
+        requireNonNull(tag);
+        Integer id = IDS_BY_TYPE.get(tag.getTagType()).get(tag.tagName);
+        return id != null ? id : add(tag);
+    }
+
+    /**
+     * Returns the id of {@code tag}, or -1 if the tag has never been seen.
+     */
+    public static int findId(Tag tag) {
+        requireNonNull(tag);
+        return IDS_BY_TYPE.get(tag.getTagType()).getOrDefault(tag.tagName, -1);
+    }
+
+    /**
+     * Returns the ids of every tag of type {@code tagType} whose name equals {@code tagName}, ignoring case.
+     * This is a single hash lookup, however many tags there are.
+     */
+    public static List<Integer> findIdsIgnoreCase(String tagName, Tag.TagType tagType) {
+        requireNonNull(tagName);
+        requireNonNull(tagType);
+        return IDS_BY_LOWER_CASE_NAME.get(tagType).getOrDefault(tagName.toLowerCase(), List.of());
+    }
+
+    /**
+     * Returns the tag with the given {@code id}, which must have been returned by this dictionary.
+     */
+    public static Tag get(int id) {
+        return tags[id];
+    }
+
+    private static synchronized int add(Tag tag) {
+        Map<String, Integer> ids = IDS_BY_TYPE.get(tag.getTagType());
+        Integer existingId = ids.get(tag.tagName);
+        if (existingId != null) {
+            return existingId;
+        }
+
+        if (size == tags.length) {
+            tags = Arrays.copyOf(tags, size * 2);
+        }
+        int id = size++;
+        tags[id] = tag;
+        // Publishing the id last guarantees that any thread which can see the id can also see the tag
+        IDS_BY_LOWER_CASE_NAME.get(tag.getTagType()).merge(tag.tagName.toLowerCase(), List.of(id), (older, added) ->
+                Stream.concat(older.stream(), added.stream()).collect(Collectors.toUnmodifiableList()));
+        ids.put(tag.tagName, id);
+        return id;
+    }
+}
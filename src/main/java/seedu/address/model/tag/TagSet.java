@@ -0,0 +1,148 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of tags stored as a sorted array of {@link TagDictionary} ids.
+ * Iteration yields the canonical tags in the order they were first seen by the dictionary.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    private static final TagSet EMPTY = new TagSet(new int[0]);
+
+    private final int[] ids;
+
+    private TagSet(int[] ids) {
+        this.ids = ids;
+    }
+
+    /**
+     * Returns a {@code TagSet} containing {@code tags}.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+
+        int[] ids = new int[tags.size()];
+        int count = 0;
+        for (Tag tag : tags) {
+            ids[count++] = TagDictionary.idOf(tag);
+        }
+        Arrays.sort(ids);
+
+        // Drops repeated ids, which a collection that is not a set may contain
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || ids[distinct - 1] != ids[i]) {
+                ids[distinct++] = ids[i];
+            }
+        }
+        return new TagSet(distinct == ids.length ? ids : Arrays.copyOf(ids, distinct));
+    }
+
+    /**
+     * Performs {@code action} on the dictionary id of every tag in this set, in ascending order.
+     */
+    public void forEachId(IntConsumer action) {
+        for (int id : ids) {
+            action.accept(id);
+        }
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Tag)) {
+            return false;
+        }
+        int id = TagDictionary.findId((Tag) o);
+        return id >= 0 && Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < ids.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return TagDictionary.get(ids[next++]);
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return ids.length;
+    }
+
+    // Mutators throw even when they would not change the set, as Collections.unmodifiableSet does
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof TagSet) {
+            return Arrays.equals(ids, ((TagSet) other).ids);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.address.model.util;
+
+/**
+ * Contains the character checks that the model's value classes validate their input with.
+ * Each check scans the input once and allocates nothing, unlike {@code String#matches}, which compiles its pattern
+ * on every call. Character classes follow {@code java.util.regex.Pattern} without any flags, so {@code \p{Alnum}}
+ * and {@code \d} are US-ASCII only.
+ */
+public final class FieldValidator {
+
+    private FieldValidator() {}
+
+    /**
+     * Returns true if {@code c} is an ASCII digit, as matched by {@code \d}.
+     */
+    public static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, as matched by {@code \p{Alnum}}.
+     */
+    public static boolean isAlphanumeric(char c) {
+        return isDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Returns true if {@code c} is a whitespace, as matched by {@code \s}.
+     */
+    public static boolean isWhitespace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
+    }
+
+    /**
+     * Returns true if {@code c} ends a line, and so is not matched by {@code .}.
+     */
+    public static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    /**
+     * Returns true if {@code test} has between {@code minLength} and {@code maxLength} characters, all of which are
+     * digits, as matched by {@code \d{minLength,maxLength}}.
+     */
+    public static boolean isDigits(String test, int minLength, int maxLength) {
+        int length = test.length();
+        return length >= minLength && length <= maxLength && isDigitsAt(test, 0, length);
+    }
+
+    /**
+     * Returns true if the {@code count} characters of {@code test} from {@code index} are all digits.
+     */
+    public static boolean isDigitsAt(String test, int index, int count) {
+        if (index + count > test.length()) {
+            return false;
+        }
+        for (int i = index; i < index + count; i++) {
+            if (!isDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if every character of {@code test} from {@code index} is alphanumeric or one of
+     * {@code otherCharacters}.
+     */
+    public static boolean isAlphanumericOrAnyOf(String test, int index, String otherCharacters) {
+        for (int i = index; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!isAlphanumeric(c) && otherCharacters.indexOf(c) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} starts with a character that is not a whitespace and has no line terminators
+     * after it, as matched by {@code [^\s].*}.
+     */
+    public static boolean isNonBlankLine(String test) {
+        if (test.isEmpty() || isWhitespace(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            if (isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is the same as {@code expected}, ignoring the case of ASCII letters only,
+     * as matched by a pattern with the {@code (?i)} flag.
+     */
+    public static boolean equalsIgnoreAsciiCase(String test, String expected) {
+        if (test.length() != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (toAsciiLowerCase(test.charAt(i)) != toAsciiLowerCase(expected.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char toAsciiLowerCase(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+}
@@ -0,0 +1,382 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.AppointmentDate;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ * <p>
+ * A snapshot starts with {@link #MAGIC} and a format version, followed by a table of the strings that many persons
+ * share (genders, medicines and tag names) and then the persons themselves. Strings are written as a length followed
+ * by their UTF-8 bytes, shared strings as an index into the table, and appointments as the number of minutes since
+ * 1970-01-01 00:00. All counts, lengths and indices are variable-length integers.
+ * <p>
+ * A file that is not a binary snapshot is read as JSON, so an existing JSON data file is imported on first use.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** First four bytes of every binary snapshot, "SCAB". */
+    public static final int MAGIC = 0x53434142;
+
+    /** Version of the format written by this class. Snapshots of later versions cannot be read. */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private static final int NO_APPOINTMENT = 0;
+    private static final int APPOINTMENT_DATE = 1;
+    private static final int APPOINTMENT_DATE_TIME = 2;
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("uuuu-MM-dd");
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm");
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        recoverTemporaryFile(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        if (!isBinarySnapshot(filePath)) {
+            logger.info("Importing " + filePath + " as JSON");
+            return new JsonAddressBookStorage(filePath).readAddressBook(filePath);
+        }
+
+        try {
+            return Optional.of(read(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is replaced in a single step, so that an interrupted save cannot leave it partly written.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFileAtomically(filePath, out -> write(addressBook, new DataOutputStream(out)));
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} exists and starts with {@link #MAGIC}.
+     */
+    static boolean isBinarySnapshot(Path filePath) {
+        if (!Files.isRegularFile(filePath)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(filePath))) {
+            return in.readInt() == MAGIC;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static void write(ReadOnlyAddressBook addressBook, DataOutputStream out) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+
+        // Gathers the shared strings first, as the table must come before the persons that refer to it
+        Map<String, Integer> stringTable = new LinkedHashMap<>();
+        for (Person person : persons) {
+            stringTable.putIfAbsent(person.getGender().gender, stringTable.size());
+            stringTable.putIfAbsent(person.getMedicine().value, stringTable.size());
+            for (Tag tag : person.getConditionTags()) {
+                stringTable.putIfAbsent(tag.tagName, stringTable.size());
+            }
+            for (Tag tag : person.getDetailTags()) {
+                stringTable.putIfAbsent(tag.tagName, stringTable.size());
+            }
+        }
+
+        out.writeInt(MAGIC);
+        writeVarInt(out, FORMAT_VERSION);
+        writeVarInt(out, stringTable.size());
+        for (String string : stringTable.keySet()) {
+            writeString(out, string);
+        }
+
+        writeVarInt(out, persons.size());
+        for (Person person : persons) {
+            writeString(out, person.getName().fullName);
+            writeString(out, person.getPhone().value);
+            writeString(out, person.getAddress().value);
+            writeVarInt(out, stringTable.get(person.getGender().gender));
+            writeVarInt(out, stringTable.get(person.getMedicine().value));
+            writeAppointmentDate(out, person.getAppointmentDate());
+            writeTagReferences(out, person.getConditionTags(), stringTable);
+            writeTagReferences(out, person.getDetailTags(), stringTable);
+        }
+        out.flush();
+    }
+
+    private static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        // Every counted item takes at least a byte, so no count or length in an intact file exceeds its size
+        long fileSize = Files.size(filePath);
+        try (InputStream fileIn = Files.newInputStream(filePath);
+                DataInputStream in = new DataInputStream(new BufferedInputStream(fileIn, READ_BUFFER_SIZE))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a binary address book snapshot");
+            }
+            int version = readVarInt(in);
+            if (version > FORMAT_VERSION) {
+                throw new IOException("Unsupported binary snapshot version " + version);
+            }
+
+            String[] stringTable = new String[readCount(in, fileSize)];
+            for (int i = 0; i < stringTable.length; i++) {
+                stringTable[i] = readString(in, fileSize);
+            }
+
+            int personCount = readCount(in, fileSize);
+            List<Person> persons = new ArrayList<>();
+            List<JsonAdaptedPerson> batch = new ArrayList<>();
+            for (int i = 0; i < personCount; i++) {
+                String name = readString(in, fileSize);
+                String phone = readString(in, fileSize);
+                String address = readString(in, fileSize);
+                String gender = lookUp(stringTable, readVarInt(in));
+                String medicine = lookUp(stringTable, readVarInt(in));
+                String appointmentDate = readAppointmentDate(in);
+                List<JsonAdaptedTag> conditionTags = readTagReferences(in, fileSize, stringTable,
+                        Tag.TagType.CONDITION);
+                List<JsonAdaptedTag> detailTags = readTagReferences(in, fileSize, stringTable,
+                        Tag.TagType.DETAIL);
+
+                // Validated in the same way as a person read from JSON, as the file may have been edited or damaged
+                batch.add(new JsonAdaptedPerson(name, phone, address, gender, appointmentDate, medicine,
+                        conditionTags, detailTags));
+                if (batch.size() == ParallelPersonConverter.BATCH_SIZE) {
+                    persons.addAll(ParallelPersonConverter.convert(batch, persons.size()));
+                    batch.clear();
+                }
+            }
+            persons.addAll(ParallelPersonConverter.convert(batch, persons.size()));
+            if (in.read() != -1) {
+                throw new IOException("Unexpected data after the last person");
+            }
+            return JsonSerializableAddressBook.toAddressBook(persons);
+        }
+    }
+
+    private static void writeAppointmentDate(DataOutputStream out, AppointmentDate appointmentDate)
+            throws IOException {
+        if (appointmentDate.isEmpty()) {
+            out.writeByte(NO_APPOINTMENT);
+            return;
+        }
+        out.writeByte(appointmentDate.hasTime() ? APPOINTMENT_DATE_TIME : APPOINTMENT_DATE);
+        writeVarLong(out, appointmentDate.getKey());
+    }
+
+    private static String readAppointmentDate(DataInputStream in) throws IOException {
+        int kind = in.readUnsignedByte();
+        if (kind == NO_APPOINTMENT) {
+            return "";
+        } else if (kind != APPOINTMENT_DATE && kind != APPOINTMENT_DATE_TIME) {
+            throw new IOException("Unknown appointment kind " + kind);
+        }
+
+        LocalDateTime dateTime = LocalDateTime.ofEpochSecond(Math.multiplyExact(readVarLong(in), 60L), 0,
+                ZoneOffset.UTC);
+        return dateTime.format(kind == APPOINTMENT_DATE_TIME ? DATE_TIME_FORMAT : DATE_FORMAT);
+    }
+
+    private static void writeTagReferences(DataOutputStream out, Set<Tag> tags, Map<String, Integer> stringTable)
+            throws IOException {
+        writeVarInt(out, tags.size());
+        for (Tag tag : tags) {
+            writeVarInt(out, stringTable.get(tag.tagName));
+        }
+    }
+
+    private static List<JsonAdaptedTag> readTagReferences(DataInputStream in, long fileSize, String[] stringTable,
+            Tag.TagType tagType) throws IOException {
+        int count = readCount(in, fileSize);
+        List<JsonAdaptedTag> tags = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tags.add(new JsonAdaptedTag(lookUp(stringTable, readVarInt(in)), tagType.name()));
+        }
+        return tags;
+    }
+
+    private static String lookUp(String[] stringTable, int index) throws IOException {
+        if (index >= stringTable.length) {
+            throw new IOException("String table index " + index + " out of bounds");
+        }
+        return stringTable[index];
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in, long fileSize) throws IOException {
+        byte[] bytes = new byte[readCount(in, fileSize)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        assert value >= 0;
+        writeUnsignedVarLong(out, value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        long value = readUnsignedVarLong(in);
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IOException("Count " + Long.toUnsignedString(value) + " is too large");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Reads a count or length, rejecting one larger than {@code fileSize}, which only a damaged file can hold,
+     * before anything is allocated for it.
+     */
+    private static int readCount(DataInputStream in, long fileSize) throws IOException {
+        int count = readVarInt(in);
+        if (count > fileSize) {
+            throw new IOException("Count " + count + " exceeds the file size of " + fileSize + " bytes");
+        }
+        return count;
+    }
+
+    /**
+     * Writes {@code value} zig-zag encoded, so that small negative values, such as appointments shortly before 1970,
+     * also stay short.
+     */
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        writeUnsignedVarLong(out, (value << 1) ^ (value >> 63));
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long zigZag = readUnsignedVarLong(in);
+        return (zigZag >>> 1) ^ -(zigZag & 1);
+    }
+
+    /**
+     * Writes {@code value}, taken as unsigned, in 7-bit groups, least significant first, with the high bit of each
+     * byte set if more bytes follow. Values below 128 take a single byte.
+     */
+    private static void writeUnsignedVarLong(DataOutputStream out, long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            out.writeByte((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        out.writeByte((int) remaining);
+    }
+
+    private static long readUnsignedVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Variable-length integer is too long");
+    }
+
+    /**
+     * Resolves a temporary file left behind by a save to {@code filePath} that was interrupted, going by the format
+     * of the temporary file rather than that of {@code filePath}, as a save may have been switching formats.
+     * A temporary file that holds a complete snapshot or JSON object replaces {@code filePath}; any other one is
+     * deleted.
+     */
+    static void recoverTemporaryFile(Path filePath) {
+        Path temporaryFile = FileUtil.getTemporaryFilePath(filePath);
+        if (!Files.exists(temporaryFile)) {
+            return;
+        }
+        if (!isBinarySnapshot(temporaryFile)) {
+            JsonUtil.recoverTemporaryFile(filePath);
+            return;
+        }
+
+        try {
+            try {
+                read(temporaryFile);
+            } catch (IOException | IllegalValueException e) {
+                logger.warning("Discarding incomplete temporary file " + temporaryFile + ": " + e);
+                Files.delete(temporaryFile);
+                return;
+            }
+            logger.warning("Recovering " + filePath + " from temporary file " + temporaryFile);
+            Files.move(temporaryFile, filePath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            logger.warning("Could not recover temporary file " + temporaryFile + ": " + e);
+        }
+    }
+}
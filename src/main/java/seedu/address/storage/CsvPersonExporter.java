@@ -0,0 +1,88 @@
+package seedu.address.storage;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_APPT_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CONDITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DETAILS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GENDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEDICINE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.CsvWriter;
+import seedu.address.logic.parser.CsvPersonParser;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes persons as comma-separated values that the import command reads back into the same persons.
+ * The columns and the tag separator are those of {@link CsvPersonParser}, so the two cannot drift apart.
+ */
+final class CsvPersonExporter {
+
+    /** The header row, which names the columns in the form the import command expects. */
+    static final List<String> HEADER = List.copyOf(CsvPersonParser.COLUMNS.keySet());
+
+    // The field written for each column, by the prefix the column is parsed as
+    private static final Map<Prefix, Function<Person, String>> FIELDS = Map.of(
+            PREFIX_NAME, person -> person.getName().fullName,
+            PREFIX_PHONE, person -> person.getPhone().value,
+            PREFIX_ADDRESS, person -> person.getAddress().value,
+            PREFIX_GENDER, person -> person.getGender().gender,
+            PREFIX_APPT_DATE, person -> person.getAppointmentDate().value,
+            PREFIX_MEDICINE, person -> person.getMedicine().value,
+            PREFIX_CONDITION, person -> joinTags(person.getConditionTags()),
+            PREFIX_DETAILS, person -> joinTags(person.getDetailTags()));
+
+    private CsvPersonExporter() {}
+
+    /**
+     * Writes a header row and then one row per person to {@code writer}, and returns the number of persons written.
+     * {@code writer} is flushed but not closed.
+     *
+     * @throws IllegalStateException if the import command reads a column that cannot be exported.
+     */
+    static int write(Iterable<Person> persons, Writer writer) throws IOException {
+        List<Function<Person, String>> columnFields = new ArrayList<>(HEADER.size());
+        for (String column : HEADER) {
+            Function<Person, String> field = FIELDS.get(CsvPersonParser.COLUMNS.get(column));
+            if (field == null) {
+                throw new IllegalStateException("No field is exported for column " + column);
+            }
+            columnFields.add(field);
+        }
+
+        CsvWriter csvWriter = new CsvWriter(writer);
+        csvWriter.writeRecord(HEADER);
+
+        int count = 0;
+        List<String> fields = new ArrayList<>(HEADER.size());
+        for (Person person : persons) {
+            fields.clear();
+            for (Function<Person, String> field : columnFields) {
+                fields.add(field.apply(person));
+            }
+            csvWriter.writeRecord(fields);
+            count++;
+        }
+        csvWriter.flush();
+        return count;
+    }
+
+    private static String joinTags(Set<Tag> tags) {
+        return tags.stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.joining(CsvPersonParser.TAG_SEPARATOR));
+    }
+}
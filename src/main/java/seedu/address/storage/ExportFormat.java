@@ -0,0 +1,63 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Optional;
+
+import seedu.address.model.person.Person;
+
+/**
+ * The formats in which persons can be exported for use by other programs.
+ */
+public enum ExportFormat {
+    /** Comma-separated values, one person per row, in the columns read by the import command. */
+    CSV(".csv") {
+        @Override
+        int write(Iterable<Person> persons, Writer writer) throws IOException {
+            return CsvPersonExporter.write(persons, writer);
+        }
+    },
+    /** An iCalendar file with one event per appointment. */
+    ICS(".ics") {
+        @Override
+        int write(Iterable<Person> persons, Writer writer) throws IOException {
+            return IcsPersonExporter.write(persons, writer);
+        }
+    };
+
+    private final String fileExtension;
+
+    ExportFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns the format whose file extension {@code filePath} ends with, ignoring case, if there is one.
+     */
+    public static Optional<ExportFormat> fromFilePath(Path filePath) {
+        Path fileName = filePath.getFileName();
+        if (fileName == null) {
+            return Optional.empty();
+        }
+
+        String name = fileName.toString().toLowerCase(Locale.ROOT);
+        for (ExportFormat format : values()) {
+            if (name.endsWith(format.fileExtension) && name.length() > format.fileExtension.length()) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Writes {@code persons} to {@code writer} in this format and returns the number of records written.
+     * {@code writer} is flushed but not closed.
+     */
+    abstract int write(Iterable<Person> persons, Writer writer) throws IOException;
+}
@@ -0,0 +1,166 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.AppointmentDate;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes the appointments of persons as an iCalendar (RFC 5545) file, with one event per appointment.
+ * Appointments are written in floating local time, as they are entered, so they keep their wall-clock time in any
+ * time zone. An appointment without a time is an all-day event. Persons without an appointment are left out.
+ */
+final class IcsPersonExporter {
+
+    /** The length assumed for an appointment with a time, which has no end time of its own. */
+    static final String APPOINTMENT_DURATION = "PT30M";
+
+    private static final String LINE_SEPARATOR = "\r\n";
+    // Lines longer than this many bytes, excluding the line break, must be folded
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final String UID_DOMAIN = "@silvercare";
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("uuuuMMdd");
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("uuuuMMdd'T'HHmmss");
+
+    private IcsPersonExporter() {}
+
+    /**
+     * Writes a calendar of the appointments of {@code persons} to {@code writer}, and returns the number of events
+     * written. {@code writer} is flushed but not closed.
+     */
+    static int write(Iterable<Person> persons, Writer writer) throws IOException {
+        return write(persons, writer, Instant.now());
+    }
+
+    /**
+     * Similar to {@link #write(Iterable, Writer)}, but the events are stamped as created at {@code timestamp}.
+     */
+    static int write(Iterable<Person> persons, Writer writer, Instant timestamp) throws IOException {
+        String stamp = DATE_TIME_FORMAT.format(LocalDateTime.ofInstant(timestamp, ZoneOffset.UTC)) + "Z";
+
+        writeLine(writer, "BEGIN:VCALENDAR");
+        writeLine(writer, "VERSION:2.0");
+        writeLine(writer, "PRODID:-//SilverCare//SilverCare//EN");
+        writeLine(writer, "CALSCALE:GREGORIAN");
+
+        int count = 0;
+        for (Person person : persons) {
+            AppointmentDate appointmentDate = person.getAppointmentDate();
+            if (appointmentDate.isEmpty()) {
+                continue;
+            }
+            writeEvent(writer, person, appointmentDate, stamp);
+            count++;
+        }
+
+        writeLine(writer, "END:VCALENDAR");
+        writer.flush();
+        return count;
+    }
+
+    private static void writeEvent(Writer writer, Person person, AppointmentDate appointmentDate, String stamp)
+            throws IOException {
+        // Minutes since 1970-01-01 00:00 of the wall-clock time, so UTC only serves as a fixed reference
+        LocalDateTime start = LocalDateTime.ofEpochSecond(appointmentDate.getKey() * 60, 0, ZoneOffset.UTC);
+
+        writeLine(writer, "BEGIN:VEVENT");
+        writeLine(writer, "UID:" + getUid(person));
+        writeLine(writer, "DTSTAMP:" + stamp);
+        if (appointmentDate.hasTime()) {
+            writeLine(writer, "DTSTART:" + DATE_TIME_FORMAT.format(start));
+            writeLine(writer, "DURATION:" + APPOINTMENT_DURATION);
+        } else {
+            writeLine(writer, "DTSTART;VALUE=DATE:" + DATE_FORMAT.format(start));
+        }
+        writeLine(writer, "SUMMARY:" + escape("Appointment: " + person.getName().fullName));
+        writeLine(writer, "LOCATION:" + escape(person.getAddress().value));
+        writeLine(writer, "DESCRIPTION:" + escape(getDescription(person)));
+        writeLine(writer, "END:VEVENT");
+    }
+
+    /**
+     * Returns an identifier that stays the same for a person across exports, so calendars that import the file
+     * again update the person's event rather than adding another one.
+     */
+    private static String getUid(Person person) {
+        String identity = person.getName().fullName + "\n" + person.getPhone().value;
+        return UUID.nameUUIDFromBytes(identity.getBytes(StandardCharsets.UTF_8)) + UID_DOMAIN;
+    }
+
+    private static String getDescription(Person person) {
+        StringBuilder description = new StringBuilder("Phone: ").append(person.getPhone().value);
+        appendIfPresent(description, "Conditions", joinTags(person.getConditionTags()));
+        appendIfPresent(description, "Medicine", person.getMedicine().value);
+        appendIfPresent(description, "Details", joinTags(person.getDetailTags()));
+        return description.toString();
+    }
+
+    private static void appendIfPresent(StringBuilder description, String label, String value) {
+        if (!value.isEmpty()) {
+            description.append('\n').append(label).append(": ").append(value);
+        }
+    }
+
+    private static String joinTags(Set<Tag> tags) {
+        return tags.stream().map(tag -> tag.tagName).sorted().collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Escapes {@code text} for use as an iCalendar TEXT value.
+     */
+    static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+            case '\\':
+            case ';':
+            case ',':
+                escaped.append('\\').append(c);
+                break;
+            case '\n':
+                escaped.append("\\n");
+                break;
+            case '\r':
+                break;
+            default:
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Writes {@code line} as a content line, folded so that no physical line is longer than 75 bytes in UTF-8.
+     */
+    static void writeLine(Writer writer, String line) throws IOException {
+        int lineOctets = 0;
+        int i = 0;
+        while (i < line.length()) {
+            int codePoint = line.codePointAt(i);
+            int octets = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            if (lineOctets + octets > MAX_LINE_OCTETS) {
+                // A continuation line starts with a space, which counts towards its length
+                writer.write(LINE_SEPARATOR);
+                writer.write(' ');
+                lineOctets = 1;
+            }
+            int charCount = Character.charCount(codePoint);
+            writer.write(line, i, charCount);
+            lineOctets += octets;
+            i += charCount;
+        }
+        writer.write(LINE_SEPARATOR);
+    }
+}
@@ -0,0 +1,326 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.AddressBook;
+import seedu.address.model.PersonChangeLog;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a snapshot plus an append-only json journal of later changes.
+ * Saving appends one line to the journal for each person added or removed since the previous save (an edit is a
+ * removal and an addition). These are read from the change log of the address book, so both the work and the I/O of a
+ * save are proportional to the size of the change rather than of the address book. Appends are flushed to the disk
+ * before a save returns, so a saved change survives a crash or power loss.
+ * Once the journal grows past a threshold, a new snapshot is written in the background and the journal is started
+ * afresh. Reading loads the snapshot and replays the journal over it.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    /** Default journal size, in bytes, past which the snapshot is compacted. */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+
+    static final String JOURNAL_SUFFIX = ".journal";
+    // A journal being compacted into the snapshot; it is kept until the new snapshot has been written
+    static final String COMPACTING_JOURNAL_SUFFIX = ".journal.old";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final AddressBookStorage snapshotStorage;
+    private final long compactionThreshold;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Future<?> compaction = CompletableFuture.completedFuture(null);
+
+    // The latest change of the address book on disk for savedFilePath, or null if it is unknown
+    private PersonChangeLog.Change savedChange;
+    private Path savedFilePath;
+    private long journalSize;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage for the snapshot at {@code filePath} that compacts its journal once it exceeds
+     * {@code compactionThreshold} bytes.
+     */
+    public JournaledAddressBookStorage(Path filePath, long compactionThreshold) {
+        this(filePath, new JsonAddressBookStorage(filePath), compactionThreshold);
+    }
+
+    /**
+     * Creates a storage for the snapshot at {@code filePath}, read and written by {@code snapshotStorage}, that
+     * compacts its journal once it exceeds {@code compactionThreshold} bytes.
+     */
+    public JournaledAddressBookStorage(Path filePath, AddressBookStorage snapshotStorage, long compactionThreshold) {
+        this.filePath = filePath;
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        awaitCompaction();
+
+        Path journal = getJournalPath(filePath);
+        Path compactingJournal = getCompactingJournalPath(filePath);
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (snapshot.isEmpty() && !Files.exists(journal) && !Files.exists(compactingJournal)) {
+            return Optional.empty();
+        }
+
+        AddressBook addressBook = new AddressBook(snapshot.orElseGet(AddressBook::new));
+        // A journal left over from an interrupted compaction holds changes older than the current journal
+        replay(compactingJournal, addressBook);
+        replay(journal, addressBook);
+
+        savedChange = addressBook.getChangeLog().getLatest();
+        savedFilePath = filePath;
+        try {
+            journalSize = sizeOf(journal) + sizeOf(compactingJournal);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only appends to the journal if {@code filePath} was the last file read or written by this storage; otherwise
+     * a full snapshot is written and any journal next to it is discarded.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        PersonChangeLog changeLog = addressBook.getChangeLog();
+        Optional<List<PersonChangeLog.Change>> changes = savedChange == null || !filePath.equals(savedFilePath)
+                ? Optional.empty()
+                : changeLog.getChangesAfter(savedChange);
+        if (changes.isEmpty()) {
+            // The address book is not the one last saved, or has changed too much since then to be journaled
+            writeSnapshot(addressBook, filePath);
+            return;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        for (PersonChangeLog.Change change : changes.get()) {
+            for (Person person : change.getRemovedPersons()) {
+                entries.add(new JsonAdaptedJournalEntry(JsonAdaptedJournalEntry.Operation.REMOVE, person));
+            }
+            for (Person person : change.getAddedPersons()) {
+                entries.add(new JsonAdaptedJournalEntry(JsonAdaptedJournalEntry.Operation.ADD, person));
+            }
+        }
+        if (!entries.isEmpty()) {
+            append(getJournalPath(filePath), entries);
+        }
+        savedChange = changeLog.getLatest();
+        if (journalSize > compactionThreshold && compaction.isDone()) {
+            startCompaction(filePath, addressBook.getSnapshot());
+        }
+    }
+
+    /**
+     * Waits for any compaction in progress to finish.
+     */
+    synchronized void awaitCompaction() {
+        try {
+            compaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Compaction failed: " + e.getCause());
+        }
+    }
+
+    static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    static Path getCompactingJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + COMPACTING_JOURNAL_SUFFIX);
+    }
+
+    /**
+     * Writes all of {@code addressBook} as the snapshot at {@code filePath} and discards its journals.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        awaitCompaction();
+        savedChange = null;
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+        Files.deleteIfExists(getJournalPath(filePath));
+        Files.deleteIfExists(getCompactingJournalPath(filePath));
+
+        savedChange = addressBook.getChangeLog().getLatest();
+        savedFilePath = filePath;
+        journalSize = 0;
+    }
+
+    /**
+     * Appends {@code entries} to {@code journal}, one per line, and forces them to the disk.
+     * The journal is small, so syncing only its data on each save is cheap.
+     */
+    private void append(Path journal, List<JsonAdaptedJournalEntry> entries) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+        byte[] bytes = lines.toString().getBytes(StandardCharsets.UTF_8);
+
+        FileUtil.createParentDirsOfFile(journal);
+        try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            // The journal may now end part-way through a line, so the next save writes a snapshot and discards it
+            savedChange = null;
+            throw e;
+        }
+        journalSize += bytes.length;
+    }
+
+    /**
+     * Moves the journal aside and writes {@code persons}, which include every change in it, as the new snapshot on
+     * the compactor thread. Changes saved in the meantime go to a new journal.
+     */
+    private void startCompaction(Path filePath, PersistentList<Person> persons) throws IOException {
+        Path journal = getJournalPath(filePath);
+        Path compactingJournal = getCompactingJournalPath(filePath);
+        if (Files.exists(compactingJournal)) {
+            // An earlier compaction did not finish, so its journal is kept in front of the current one
+            try (BufferedWriter writer = Files.newBufferedWriter(compactingJournal, StandardCharsets.UTF_8,
+                    StandardOpenOption.APPEND)) {
+                writer.write('\n');
+                writer.write(Files.readString(journal, StandardCharsets.UTF_8));
+            }
+            Files.delete(journal);
+        } else {
+            Files.move(journal, compactingJournal);
+        }
+        journalSize = 0;
+
+        logger.fine("Compacting journal into " + filePath);
+        compaction = compactor.submit(() -> {
+            compact(filePath, persons);
+            return null;
+        });
+    }
+
+    private void compact(Path filePath, PersistentList<Person> persons) throws IOException {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons.toList());
+
+        // The snapshot is replaced in a single step, so a crash leaves either the old snapshot or the new one
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+        Files.deleteIfExists(getCompactingJournalPath(filePath));
+        logger.fine("Compacted journal into " + filePath);
+    }
+
+    /**
+     * Applies every entry of {@code journal}, if it exists, to {@code addressBook}.
+     * Every append ends its lines with a newline, so a final line without one was cut short by a crash. It is skipped
+     * and cut off the journal, so that later appends start on a fresh line.
+     *
+     * @throws DataLoadingException if the journal cannot be read, or any complete line in it cannot be parsed or
+     *     records an invalid person, as replaying the changes after it would not give the saved address book.
+     */
+    private static void replay(Path journal, AddressBook addressBook) throws DataLoadingException {
+        if (!Files.exists(journal)) {
+            return;
+        }
+
+        try {
+            byte[] bytes = Files.readAllBytes(journal);
+            int completeLength = bytes.length;
+            while (completeLength > 0 && bytes[completeLength - 1] != '\n') {
+                completeLength--;
+            }
+
+            String[] lines = new String(bytes, 0, completeLength, StandardCharsets.UTF_8).split("\n");
+            for (int i = 0; i < lines.length; i++) {
+                if (lines[i].isBlank()) {
+                    continue;
+                }
+
+                JsonAdaptedJournalEntry entry;
+                try {
+                    entry = JsonUtil.fromJsonString(lines[i], JsonAdaptedJournalEntry.class);
+                } catch (IOException e) {
+                    throw new IOException("Unreadable line " + (i + 1) + " of " + journal, e);
+                }
+                entry.applyTo(addressBook);
+            }
+
+            if (completeLength < bytes.length) {
+                logger.warning("Discarding incomplete last line of " + journal);
+                try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+                    channel.truncate(completeLength);
+                }
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journal + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal " + journal + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private static long sizeOf(Path file) throws IOException {
+        return Files.exists(file) ? Files.size(file) : 0;
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of one change recorded in an address book journal.
+ * Each entry carries the whole person, so that replaying a journal over an address book that already contains some
+ * of its changes still ends in the same state.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+
+    /**
+     * The kinds of change that can be recorded.
+     */
+    enum Operation {
+        /** Adds the person, replacing any person with the same identity. */
+        ADD,
+        /** Removes the person, if an equal person is present. */
+        REMOVE
+    }
+
+    private final Operation operation;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given operation and person.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("operation") Operation operation,
+                                   @JsonProperty("person") JsonAdaptedPerson person) {
+        this.operation = operation;
+        this.person = person;
+    }
+
+    /**
+     * Converts a change to {@code source} into this class for Jackson use.
+     */
+    public JsonAdaptedJournalEntry(Operation operation, Person source) {
+        this(operation, new JsonAdaptedPerson(source));
+    }
+
+    /**
+     * Applies this change to {@code addressBook}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the recorded person.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "operation"));
+        }
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+        }
+
+        Person modelPerson = person.toModelType();
+        Person existingPerson = addressBook.findPerson(modelPerson).orElse(null);
+        switch (operation) {
+        case ADD:
+            if (existingPerson == null) {
+                addressBook.addPerson(modelPerson);
+            } else if (!existingPerson.equals(modelPerson)) {
+                addressBook.setPerson(existingPerson, modelPerson);
+            }
+            break;
+        case REMOVE:
+            if (modelPerson.equals(existingPerson)) {
+                addressBook.removePerson(existingPerson);
+            }
+            break;
+        default:
+            throw new AssertionError("Unknown journal operation: " + operation);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -9,6 +10,7 @@ import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Address;
@@ -79,6 +81,44 @@ class JsonAdaptedPerson {
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Writes {@code person} onto {@code generator} in the same form as a {@code JsonAdaptedPerson} of it, without
+     * creating one.
+     */
+    public static void write(Person person, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", person.getName().fullName);
+        generator.writeStringField("phone", person.getPhone().value);
+        generator.writeStringField("address", person.getAddress().value);
+        generator.writeStringField("gender", person.getGender().gender);
+        generator.writeStringField("medicine", person.getMedicine().value);
+        generator.writeStringField("appointmentDate", person.getAppointmentDate().value);
+        writeTags("conditionTags", person.getConditionTags(), generator);
+        writeTags("detailTags", person.getDetailTags(), generator);
+        generator.writeEndObject();
+    }
+
+    private static void writeTags(String fieldName, Set<Tag> tags, JsonGenerator generator) throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        for (Tag tag : tags) {
+            JsonAdaptedTag.write(tag, generator);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Adds the valid tags of this person to the tag dictionary, in order. Invalid tags are left for
+     * {@link #toModelType()} to report.
+     */
+    void internTags() {
+        for (JsonAdaptedTag tag : conditionTags) {
+            tag.intern();
+        }
+        for (JsonAdaptedTag tag : detailTags) {
+            tag.intern();
+        }
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
@@ -1,10 +1,14 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagDictionary;
 
 /**
  * Jackson-friendly version of {@link Tag}.
@@ -32,6 +36,16 @@ class JsonAdaptedTag {
         this.tagType = source.getTagType().name();
     }
 
+    /**
+     * Writes {@code tag} onto {@code generator} in the same form as a {@code JsonAdaptedTag} of it.
+     */
+    public static void write(Tag tag, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("tagName", tag.tagName);
+        generator.writeStringField("tagType", tag.getTagType().name());
+        generator.writeEndObject();
+    }
+
     public String getTagName() {
         return tagName;
     }
@@ -40,6 +54,17 @@ class JsonAdaptedTag {
         return tagType;
     }
 
+    /**
+     * Adds this tag to the tag dictionary if it is valid, and does nothing otherwise.
+     */
+    void intern() {
+        try {
+            toModelType();
+        } catch (IllegalValueException e) {
+            // Reported when the person holding the tag is converted
+        }
+    }
+
     /**
      * Converts this Jackson-friendly adapted tag object into the model's {@code Tag} object.
      *
@@ -49,20 +74,22 @@ class JsonAdaptedTag {
         if (tagName == null || tagType == null) {
             throw new IllegalValueException("Missing tag name or tag type.");
         }
+        Tag.TagType type;
         try {
-            Tag.TagType type = Tag.TagType.valueOf(tagType.toUpperCase());
-
-            if (Tag.isEmptyTagName(tagName)) {
-                throw new IllegalValueException(type.emptyInputMessage);
-            }
+            type = Tag.TagType.valueOf(tagType.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException("Invalid or missing tag type: " + tagType);
+        }
 
-            if (!Tag.isValidTagName(tagName)) {
-                throw new IllegalValueException(type.constraintMessage);
-            }
+        if (Tag.isEmptyTagName(tagName)) {
+            throw new IllegalValueException(type.emptyInputMessage);
+        }
 
-            return new Tag(tagName, type);
-        } catch (IllegalArgumentException | NullPointerException e) {
-            throw new IllegalValueException("Invalid or missing tag type: " + tagType);
+        try {
+            // Names already in the dictionary are not validated again
+            return TagDictionary.intern(tagName, type);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(type.constraintMessage);
         }
     }
 
@@ -5,26 +5,36 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
-import java.util.logging.Logger;
 
-import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
-import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is read and written as a stream of tokens, converting each person as it is reached.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
-    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
+    /** Default number of persons above which an address book is saved without pretty-printing. */
+    public static final int DEFAULT_PRETTY_PRINT_LIMIT = 1000;
 
     private Path filePath;
+    private final int prettyPrintLimit;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_PRETTY_PRINT_LIMIT);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath} that pretty-prints address books of at most
+     * {@code prettyPrintLimit} persons, and writes larger ones compactly on a single line.
+     * A negative limit turns pretty-printing off.
+     */
+    public JsonAddressBookStorage(Path filePath, int prettyPrintLimit) {
         this.filePath = filePath;
+        this.prettyPrintLimit = prettyPrintLimit;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,18 +55,13 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataLoadingException(ive);
+        // Resolved first, as an interrupted save may have been switching the file to the other format
+        BinaryAddressBookStorage.recoverTemporaryFile(filePath);
+        if (BinaryAddressBookStorage.isBinarySnapshot(filePath)) {
+            // Lets a binary snapshot be opened after switching back to the JSON format
+            return new BinaryAddressBookStorage(filePath).readAddressBook(filePath);
         }
+        return JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook::read);
     }
 
     @Override
@@ -73,8 +78,10 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        boolean isPrettyPrinted = addressBook.getPersonList().size() <= prettyPrintLimit;
+        JsonUtil.saveJsonFile(filePath, generator -> JsonSerializableAddressBook.write(addressBook, generator),
+                isPrettyPrinted);
     }
 
 }
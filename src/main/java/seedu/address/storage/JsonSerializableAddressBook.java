@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -7,11 +8,17 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -46,13 +53,72 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        return toAddressBook(ParallelPersonConverter.convert(persons, 0));
+    }
+
+    /**
+     * Reads an address book in the format written by this class from {@code parser}.
+     * Persons are converted to the model's {@code Person} in parallel batches as they are read, so neither the JSON
+     * text nor the adapted persons of the whole file are ever held in memory at once.
+     *
+     * @throws IOException if the JSON is malformed.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+
+        List<Person> modelPersons = new ArrayList<>();
+        List<JsonAdaptedPerson> batch = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (!"persons".equals(fieldName) || value == JsonToken.VALUE_NULL) {
+                parser.skipChildren();
+                continue;
             }
-            addressBook.addPerson(person);
+            if (value != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected an array of persons");
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                batch.add(JsonUtil.readValue(parser, JsonAdaptedPerson.class));
+                if (batch.size() == ParallelPersonConverter.BATCH_SIZE) {
+                    modelPersons.addAll(ParallelPersonConverter.convert(batch, modelPersons.size()));
+                    batch.clear();
+                }
+            }
+            modelPersons.addAll(ParallelPersonConverter.convert(batch, modelPersons.size()));
+            batch.clear();
+        }
+        return toAddressBook(modelPersons);
+    }
+
+    /**
+     * Writes {@code addressBook} onto {@code generator} in the same form as a {@code JsonSerializableAddressBook} of
+     * it. Persons are written straight from the model, without creating any {@code JsonAdaptedPerson}.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("persons");
+        for (Person person : addressBook.getPersonList()) {
+            JsonAdaptedPerson.write(person, generator);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Returns an address book of {@code modelPersons}.
+     *
+     * @throws IllegalValueException if {@code modelPersons} contains duplicate persons.
+     */
+    static AddressBook toAddressBook(List<Person> modelPersons) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(modelPersons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON + " " + String.join("; ", e.getDuplicates()));
         }
         return addressBook;
     }
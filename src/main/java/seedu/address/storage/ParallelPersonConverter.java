@@ -0,0 +1,103 @@
+package seedu.address.storage;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts {@code JsonAdaptedPerson}s into the model's {@code Person}s in parallel.
+ * Validating a person runs several regular expressions and parses its appointment date, so the list is split into
+ * ranges that are converted on the common fork-join pool. The outcome is the same as converting the persons one by
+ * one in order: the persons keep their order, and if any are invalid, the error of the first one is reported,
+ * naming its position in the file.
+ */
+final class ParallelPersonConverter {
+
+    /** Number of persons a streaming reader should collect before converting them together. */
+    static final int BATCH_SIZE = 8192;
+
+    /** Number of persons below which a range is converted by one thread rather than split further. */
+    private static final int SEQUENTIAL_THRESHOLD = 256;
+
+    private ParallelPersonConverter() {}
+
+    /**
+     * Returns the model persons of {@code adaptedPersons}, in the same order.
+     *
+     * @param firstPosition zero-based position in the file of the first of {@code adaptedPersons}, such as the number
+     *     of persons in earlier batches.
+     * @throws IllegalValueException of the first person, by index, that violates a data constraint, with a message
+     *     that starts with the person's one-based position in the file, such as "Person 12345: ".
+     */
+    static List<Person> convert(List<JsonAdaptedPerson> adaptedPersons, int firstPosition)
+            throws IllegalValueException {
+        // Tag ids decide the order in which a person's tags are shown, so they are assigned in file order first
+        for (JsonAdaptedPerson adaptedPerson : adaptedPersons) {
+            adaptedPerson.internTags();
+        }
+
+        Person[] persons = new Person[adaptedPersons.size()];
+        Failure firstFailure = new ConversionTask(adaptedPersons, persons, 0, persons.length).invoke();
+        if (firstFailure != null) {
+            throw new IllegalValueException("Person " + (firstPosition + firstFailure.index + 1) + ": "
+                    + firstFailure.exception.getMessage(), firstFailure.exception);
+        }
+        return Arrays.asList(persons);
+    }
+
+    /**
+     * The error of an invalid person, and the person's index in the list being converted.
+     */
+    private static class Failure {
+        private final int index;
+        private final IllegalValueException exception;
+
+        Failure(int index, IllegalValueException exception) {
+            this.index = index;
+            this.exception = exception;
+        }
+    }
+
+    /**
+     * Converts the persons in a range of indices, and returns the failure of the first invalid one, or null if all of
+     * them are valid.
+     */
+    private static class ConversionTask extends RecursiveTask<Failure> {
+        private final List<JsonAdaptedPerson> adaptedPersons;
+        private final Person[] persons;
+        private final int from;
+        private final int to;
+
+        ConversionTask(List<JsonAdaptedPerson> adaptedPersons, Person[] persons, int from, int to) {
+            this.adaptedPersons = adaptedPersons;
+            this.persons = persons;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Failure compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    try {
+                        persons[i] = adaptedPersons.get(i).toModelType();
+                    } catch (IllegalValueException e) {
+                        return new Failure(i, e);
+                    }
+                }
+                return null;
+            }
+
+            int mid = (from + to) >>> 1;
+            ConversionTask right = new ConversionTask(adaptedPersons, persons, mid, to);
+            right.fork();
+            Failure leftFailure = new ConversionTask(adaptedPersons, persons, from, mid).compute();
+            Failure rightFailure = right.join();
+            // The left range holds the lower indices, so its failure comes first
+            return leftFailure != null ? leftFailure : rightFailure;
+        }
+    }
+}
@@ -0,0 +1,422 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in an embedded H2 database next to the data file.
+ * <p>
+ * Each person is a row keyed by name and phone, with indexes on name, phone and appointment time, and each tag is a
+ * row of its own. Saving only upserts the persons added or edited, and deletes the persons removed, since the previous
+ * save, in a single transaction. If there is no database yet, the JSON data file at the same path is imported into a
+ * new one, and is left in place as a backup.
+ */
+public class SqlAddressBookStorage implements AddressBookStorage {
+
+    /** Suffix of the file in which H2 keeps the database. */
+    public static final String DATABASE_FILE_SUFFIX = ".mv.db";
+
+    /** Version of the database schema created by this class. Databases of later versions cannot be read. */
+    static final int SCHEMA_VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(SqlAddressBookStorage.class);
+
+    private static final String[] CREATE_SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS schema_version (version INT NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS persons ("
+                + "name VARCHAR NOT NULL, phone VARCHAR NOT NULL, address VARCHAR NOT NULL, gender VARCHAR NOT NULL, "
+                + "appointment_date VARCHAR NOT NULL, appointment_key BIGINT NOT NULL, medicine VARCHAR NOT NULL, "
+                + "row_id BIGINT GENERATED BY DEFAULT AS IDENTITY, PRIMARY KEY (name, phone))",
+        "CREATE TABLE IF NOT EXISTS person_tags ("
+                + "name VARCHAR NOT NULL, phone VARCHAR NOT NULL, "
+                + "tag_type VARCHAR NOT NULL, tag_name VARCHAR NOT NULL, "
+                + "PRIMARY KEY (name, phone, tag_type, tag_name), "
+                + "FOREIGN KEY (name, phone) REFERENCES persons (name, phone) ON DELETE CASCADE)",
+        "CREATE INDEX IF NOT EXISTS persons_name ON persons (name)",
+        "CREATE INDEX IF NOT EXISTS persons_phone ON persons (phone)",
+        "CREATE INDEX IF NOT EXISTS persons_appointment ON persons (appointment_key)",
+        "CREATE INDEX IF NOT EXISTS person_tags_tag ON person_tags (tag_type, tag_name)"
+    };
+    private static final String UPSERT_PERSON = "MERGE INTO persons (name, phone, address, gender, appointment_date, "
+            + "appointment_key, medicine) KEY (name, phone) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String DELETE_PERSON = "DELETE FROM persons WHERE name = ? AND phone = ?";
+    private static final String DELETE_PERSON_TAGS = "DELETE FROM person_tags WHERE name = ? AND phone = ?";
+    private static final String INSERT_PERSON_TAG =
+            "INSERT INTO person_tags (name, phone, tag_type, tag_name) VALUES (?, ?, ?, ?)";
+    // Persons with the same appointment time keep the order in which they were first saved
+    private static final String SELECT_PERSONS = "SELECT name, phone, address, gender, appointment_date, medicine "
+            + "FROM persons ORDER BY appointment_key, row_id";
+    private static final String SELECT_PERSON_TAGS = "SELECT name, phone, tag_type, tag_name FROM person_tags "
+            + "ORDER BY name, phone, tag_type, tag_name";
+
+    private final Path filePath;
+
+    // The open database, the data file it belongs to, and the persons in it by identity, or null if they are unknown
+    private Connection connection;
+    private Path connectedFilePath;
+    private Set<Person> savedPersons;
+
+    public SqlAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Reads the database kept for the data file at {@code filePath}, importing the data file into a new database if
+     * there is none yet.
+     *
+     * @param filePath location of the data file. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(getDatabaseFilePath(filePath))) {
+            return migrateFromJson(filePath);
+        }
+
+        try {
+            connect(filePath);
+            List<Person> persons = selectPersons();
+            savedPersons = toIdentitySet(persons);
+            return Optional.of(JsonSerializableAddressBook.toAddressBook(persons));
+        } catch (SQLException e) {
+            logger.warning("Error reading from database " + getDatabaseFilePath(filePath) + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + getDatabaseFilePath(filePath) + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the changes since the previous save are written if {@code filePath} was the last file read or written by
+     * this storage; otherwise every person is written.
+     *
+     * @param filePath location of the data file. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        try {
+            boolean isSameDatabase = filePath.equals(connectedFilePath);
+            connect(filePath);
+            if (savedPersons == null || !isSameDatabase) {
+                replaceAll(persons);
+            } else {
+                applyChanges(persons);
+            }
+            savedPersons = toIdentitySet(persons);
+        } catch (SQLException e) {
+            // The database may now differ from savedPersons, so the next save writes every person
+            savedPersons = null;
+            throw new IOException("Could not save to database " + getDatabaseFilePath(filePath), e);
+        }
+    }
+
+    /**
+     * Returns the path of the file holding the database kept for the data file at {@code filePath}.
+     */
+    public static Path getDatabaseFilePath(Path filePath) {
+        return filePath.resolveSibling(getDatabaseName(filePath) + DATABASE_FILE_SUFFIX);
+    }
+
+    private static String getDatabaseName(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        return extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+    }
+
+    /**
+     * Imports the JSON data file at {@code filePath}, if there is one, into a new database.
+     */
+    private Optional<ReadOnlyAddressBook> migrateFromJson(Path filePath) throws DataLoadingException {
+        Optional<ReadOnlyAddressBook> jsonAddressBook = new JsonAddressBookStorage(filePath).readAddressBook(filePath);
+        if (jsonAddressBook.isEmpty()) {
+            return Optional.empty();
+        }
+
+        logger.info("Importing " + filePath + " into database " + getDatabaseFilePath(filePath));
+        try {
+            connect(filePath);
+            replaceAll(jsonAddressBook.get().getPersonList());
+            savedPersons = toIdentitySet(jsonAddressBook.get().getPersonList());
+        } catch (SQLException e) {
+            logger.warning("Error importing " + filePath + " into a database: " + e);
+            throw new DataLoadingException(e);
+        }
+        return jsonAddressBook;
+    }
+
+    /**
+     * Opens the database kept for the data file at {@code filePath}, creating it if needed, unless it is already open.
+     */
+    private void connect(Path filePath) throws SQLException {
+        if (connection != null && filePath.equals(connectedFilePath)) {
+            return;
+        }
+        closeConnection();
+        savedPersons = null;
+
+        try {
+            FileUtil.createParentDirsOfFile(filePath.toAbsolutePath());
+        } catch (IOException e) {
+            throw new SQLException("Could not create the folder of " + filePath, e);
+        }
+        Path databasePath = filePath.toAbsolutePath().resolveSibling(getDatabaseName(filePath));
+        Connection newConnection = DriverManager.getConnection("jdbc:h2:file:" + databasePath);
+        try {
+            newConnection.setAutoCommit(false);
+            createSchema(newConnection);
+        } catch (SQLException e) {
+            newConnection.close();
+            throw e;
+        }
+        connection = newConnection;
+        connectedFilePath = filePath;
+    }
+
+    private void closeConnection() {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            logger.warning("Error closing database of " + connectedFilePath + ": " + e);
+        }
+        connection = null;
+        connectedFilePath = null;
+    }
+
+    private static void createSchema(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : CREATE_SCHEMA) {
+                statement.execute(sql);
+            }
+
+            try (ResultSet version = statement.executeQuery("SELECT MAX(version) FROM schema_version")) {
+                version.next();
+                int schemaVersion = version.getInt(1);
+                if (version.wasNull()) {
+                    statement.execute("INSERT INTO schema_version (version) VALUES (" + SCHEMA_VERSION + ")");
+                } else if (schemaVersion > SCHEMA_VERSION) {
+                    throw new SQLException("Unsupported database schema version " + schemaVersion);
+                }
+            }
+        }
+        connection.commit();
+    }
+
+    private List<Person> selectPersons() throws SQLException, IllegalValueException {
+        Map<PersonKey, List<JsonAdaptedTag>> conditionTags = new HashMap<>();
+        Map<PersonKey, List<JsonAdaptedTag>> detailTags = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+                ResultSet tags = statement.executeQuery(SELECT_PERSON_TAGS)) {
+            while (tags.next()) {
+                PersonKey key = new PersonKey(tags.getString(1), tags.getString(2));
+                String tagType = tags.getString(3);
+                Map<PersonKey, List<JsonAdaptedTag>> tagsOfType =
+                        Tag.TagType.CONDITION.name().equals(tagType) ? conditionTags : detailTags;
+                tagsOfType.computeIfAbsent(key, k -> new ArrayList<>())
+                        .add(new JsonAdaptedTag(tags.getString(4), tagType));
+            }
+        }
+
+        List<Person> persons = new ArrayList<>();
+        List<JsonAdaptedPerson> batch = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery(SELECT_PERSONS)) {
+            while (rows.next()) {
+                PersonKey key = new PersonKey(rows.getString(1), rows.getString(2));
+                // Validated in the same way as a person read from JSON, as the database may have been edited
+                batch.add(new JsonAdaptedPerson(key.name, key.phone, rows.getString(3), rows.getString(4),
+                        rows.getString(5), rows.getString(6), conditionTags.get(key), detailTags.get(key)));
+                if (batch.size() == ParallelPersonConverter.BATCH_SIZE) {
+                    persons.addAll(ParallelPersonConverter.convert(batch, persons.size()));
+                    batch.clear();
+                }
+            }
+        }
+        persons.addAll(ParallelPersonConverter.convert(batch, persons.size()));
+        return persons;
+    }
+
+    private void replaceAll(List<Person> persons) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM person_tags");
+            statement.execute("DELETE FROM persons");
+            upsert(persons);
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        }
+    }
+
+    /**
+     * Deletes the persons removed and upserts the persons added since the last save, in one transaction.
+     * An edited person appears as both, and is only upserted unless its name or phone changed.
+     */
+    private void applyChanges(List<Person> persons) throws SQLException {
+        Set<Person> currentPersons = toIdentitySet(persons);
+        List<Person> added = new ArrayList<>();
+        Set<PersonKey> addedKeys = new HashSet<>();
+        for (Person person : persons) {
+            if (!savedPersons.contains(person)) {
+                added.add(person);
+                addedKeys.add(PersonKey.of(person));
+            }
+        }
+        List<PersonKey> removedKeys = new ArrayList<>();
+        for (Person person : savedPersons) {
+            PersonKey key = PersonKey.of(person);
+            if (!currentPersons.contains(person) && !addedKeys.contains(key)) {
+                removedKeys.add(key);
+            }
+        }
+        if (added.isEmpty() && removedKeys.isEmpty()) {
+            return;
+        }
+
+        try (PreparedStatement delete = connection.prepareStatement(DELETE_PERSON)) {
+            for (PersonKey key : removedKeys) {
+                delete.setString(1, key.name);
+                delete.setString(2, key.phone);
+                delete.addBatch();
+            }
+            delete.executeBatch();
+            upsert(added);
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        }
+    }
+
+    private void upsert(List<Person> persons) throws SQLException {
+        try (PreparedStatement upsertPerson = connection.prepareStatement(UPSERT_PERSON);
+                PreparedStatement deleteTags = connection.prepareStatement(DELETE_PERSON_TAGS);
+                PreparedStatement insertTag = connection.prepareStatement(INSERT_PERSON_TAG)) {
+            for (Person person : persons) {
+                String name = person.getName().fullName;
+                String phone = person.getPhone().value;
+                upsertPerson.setString(1, name);
+                upsertPerson.setString(2, phone);
+                upsertPerson.setString(3, person.getAddress().value);
+                upsertPerson.setString(4, person.getGender().gender);
+                upsertPerson.setString(5, person.getAppointmentDate().value);
+                upsertPerson.setLong(6, person.getAppointmentDate().getKey());
+                upsertPerson.setString(7, person.getMedicine().value);
+                upsertPerson.addBatch();
+
+                deleteTags.setString(1, name);
+                deleteTags.setString(2, phone);
+                deleteTags.addBatch();
+                addTags(insertTag, name, phone, person.getConditionTags());
+                addTags(insertTag, name, phone, person.getDetailTags());
+            }
+            upsertPerson.executeBatch();
+            deleteTags.executeBatch();
+            insertTag.executeBatch();
+        }
+    }
+
+    private static void addTags(PreparedStatement insertTag, String name, String phone, Set<Tag> tags)
+            throws SQLException {
+        for (Tag tag : tags) {
+            insertTag.setString(1, name);
+            insertTag.setString(2, phone);
+            insertTag.setString(3, tag.getTagType().name());
+            insertTag.setString(4, tag.tagName);
+            insertTag.addBatch();
+        }
+    }
+
+    private static Set<Person> toIdentitySet(List<Person> persons) {
+        Set<Person> set = Collections.newSetFromMap(new IdentityHashMap<>(persons.size() * 4 / 3 + 1));
+        set.addAll(persons);
+        return set;
+    }
+
+    /**
+     * The primary key of a person row.
+     */
+    private static class PersonKey {
+        private final String name;
+        private final String phone;
+
+        PersonKey(String name, String phone) {
+            this.name = name;
+            this.phone = phone;
+        }
+
+        static PersonKey of(Person person) {
+            return new PersonKey(person.getName().fullName, person.getPhone().value);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof PersonKey)) {
+                return false;
+            }
+            PersonKey otherKey = (PersonKey) other;
+            return name.equals(otherKey.name) && phone.equals(otherKey.phone);
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode() * 31 + phone.hashCode();
+        }
+    }
+}
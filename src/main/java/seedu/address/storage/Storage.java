@@ -3,11 +3,13 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 /**
  * API of the Storage component
@@ -29,4 +31,28 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyAddressBook} to the storage without waiting for it to be written.
+     * Failures are passed to the handler set by {@link #setSaveFailureHandler(Consumer)}.
+     * @param addressBook cannot be null.
+     */
+    void saveAddressBookInBackground(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Waits for every address book saved so far to be written.
+     * @throws IOException if the most recent write failed.
+     */
+    void flushAddressBook() throws IOException;
+
+    /**
+     * Sets the handler to be called, on the thread that writes the data, when a background save fails.
+     */
+    void setSaveFailureHandler(Consumer<IOException> saveFailureHandler);
+
+    /**
+     * Writes {@code persons} to {@code filePath} in {@code format}, replacing the file if it exists, and returns the
+     * number of records written. The file is written as it is produced rather than built in memory first.
+     */
+    int exportPersons(Iterable<Person> persons, Path filePath, ExportFormat format) throws IOException;
+
 }
@@ -1,18 +1,38 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.PersonChangeLog;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * Address books are written on a dedicated saver thread. Saves requested while an earlier one is still waiting to be
+ * written are merged into it, so a burst of changes causes a single write. An address book is only written if it has
+ * been modified since it was last saved to the same file, so commands that do not change any data do not cause a
+ * write.
  */
 public class StorageManager implements Storage {
 
@@ -20,6 +40,28 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    private final ExecutorService saver = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The fields below are guarded by this StorageManager's lock, as the saver thread also uses them
+
+    // The save waiting to be written, if any, and the most recently scheduled write
+    private PendingSave pendingSave;
+    private Future<?> lastScheduledWrite = CompletableFuture.completedFuture(null);
+    private IOException lastSaveFailure;
+    private Consumer<IOException> saveFailureHandler = e ->
+            logger.warning("Failed to save address book: " + StringUtil.getDetails(e));
+
+    // The address book last requested to be saved, its modification count then, and the file it was to be saved to
+    private ReadOnlyAddressBook lastSavedAddressBook;
+    private long lastSavedModificationCount;
+    private Path lastSavedFilePath;
+    private long saveCount = 0;
+    private long skippedSaveCount = 0;
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
@@ -69,10 +111,187 @@ public class StorageManager implements Storage {
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
     }
 
+    /**
+     * Saves {@code addressBook} to {@code filePath} and waits for it, and any save requested before it, to be written.
+     * A failure is thrown to the caller rather than passed to the save failure handler.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        scheduleSave(addressBook, filePath, true);
+        flushAddressBook();
+    }
+
+    @Override
+    public void saveAddressBookInBackground(ReadOnlyAddressBook addressBook) {
+        scheduleSave(addressBook, addressBookStorage.getAddressBookFilePath(), false);
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        Future<?> write;
+        synchronized (this) {
+            write = lastScheduledWrite;
+        }
+
+        try {
+            // The saver thread writes in order, so every earlier write has finished once the last one has
+            write.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the address book to be saved", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+
+        synchronized (this) {
+            if (lastSaveFailure != null) {
+                throw lastSaveFailure;
+            }
+        }
+    }
+
+    @Override
+    public synchronized void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    @Override
+    public int exportPersons(Iterable<Person> persons, Path filePath, ExportFormat format) throws IOException {
+        logger.fine("Exporting persons to file: " + filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        int[] count = new int[1];
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            count[0] = format.write(persons, writer);
+        });
+        return count[0];
     }
 
+    /**
+     * Returns the number of times an address book was written to a file.
+     */
+    public synchronized long getSaveCount() {
+        return saveCount;
+    }
+
+    /**
+     * Returns the number of saves that were skipped because the address book had not changed since it was last
+     * saved to the same file.
+     */
+    public synchronized long getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
+
+    /**
+     * Schedules a snapshot of {@code addressBook} to be written to {@code filePath} on the saver thread, unless it is
+     * unchanged since the last save or a save is already waiting to be written, in which case that save is updated.
+     *
+     * @param isAwaited true if the caller will wait for the write and handle any failure itself.
+     */
+    private synchronized void scheduleSave(ReadOnlyAddressBook addressBook, Path filePath, boolean isAwaited) {
+        long modificationCount = addressBook.getModificationCount();
+        if (addressBook == lastSavedAddressBook && modificationCount == lastSavedModificationCount
+                && filePath.equals(lastSavedFilePath)) {
+            skippedSaveCount++;
+            logger.finer("Data file is up to date, skipping write to: " + filePath);
+            return;
+        }
+        lastSavedAddressBook = addressBook;
+        lastSavedModificationCount = modificationCount;
+        lastSavedFilePath = filePath;
+
+        // The immutable snapshot is kept, as the address book may change again while it is being written
+        boolean isWriteScheduled = pendingSave != null;
+        pendingSave = new PendingSave(new AddressBookSnapshot(addressBook), filePath,
+                isAwaited || (isWriteScheduled && pendingSave.isAwaited));
+        if (!isWriteScheduled) {
+            lastScheduledWrite = saver.submit(this::writePendingSave);
+        }
+    }
+
+    /**
+     * Writes the save waiting to be written. Runs on the saver thread.
+     */
+    private void writePendingSave() {
+        PendingSave save;
+        Consumer<IOException> failureHandler;
+        synchronized (this) {
+            save = pendingSave;
+            pendingSave = null;
+            failureHandler = saveFailureHandler;
+        }
+
+        try {
+            logger.fine("Attempting to write to data file: " + save.filePath);
+            addressBookStorage.saveAddressBook(save.addressBook, save.filePath);
+            synchronized (this) {
+                saveCount++;
+                lastSaveFailure = null;
+            }
+        } catch (IOException e) {
+            synchronized (this) {
+                lastSaveFailure = e;
+                // The next save must not be skipped, even if nothing changes in the meantime
+                lastSavedAddressBook = null;
+            }
+            if (!save.isAwaited) {
+                failureHandler.accept(e);
+            }
+        }
+    }
+
+    /**
+     * An address book waiting to be written.
+     */
+    private static class PendingSave {
+        private final ReadOnlyAddressBook addressBook;
+        private final Path filePath;
+        private final boolean isAwaited;
+
+        PendingSave(ReadOnlyAddressBook addressBook, Path filePath, boolean isAwaited) {
+            this.addressBook = addressBook;
+            this.filePath = filePath;
+            this.isAwaited = isAwaited;
+        }
+    }
+
+    /**
+     * The persons in an address book at one point in time, taken from its immutable snapshot in O(1) time.
+     * The persons are only copied into a list when they are read, on the saver thread.
+     */
+    private static class AddressBookSnapshot implements ReadOnlyAddressBook {
+        private final PersistentList<Person> snapshot;
+        private final long modificationCount;
+        private final PersonChangeLog changeLog;
+        private ObservableList<Person> persons;
+
+        AddressBookSnapshot(ReadOnlyAddressBook source) {
+            snapshot = source.getSnapshot();
+            modificationCount = source.getModificationCount();
+            changeLog = source.getChangeLog();
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            if (persons == null) {
+                persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(snapshot.toList()));
+            }
+            return persons;
+        }
+
+        @Override
+        public PersistentList<Person> getSnapshot() {
+            return snapshot;
+        }
+
+        @Override
+        public long getModificationCount() {
+            return modificationCount;
+        }
+
+        @Override
+        public PersonChangeLog getChangeLog() {
+            return changeLog;
+        }
+    }
 }
@@ -3,6 +3,7 @@ package seedu.address.ui;
 import java.util.Collections;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.Scene;
@@ -120,6 +121,10 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message ->
+                Platform.runLater(() -> resultDisplay.setFeedbackToUser(message, true)));
+        logic.setExportResultHandler(result -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(
+                result.getFeedbackToUser(), result.getDisplayType() == CommandResult.DisplayType.WARNING)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
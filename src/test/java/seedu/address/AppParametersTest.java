@@ -39,10 +39,45 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validScriptPath_success() {
+        parametersStub.namedParameters.put("script", "nightly.txt");
+        expected.setScriptPath(Paths.get("nightly.txt"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+
+        parametersStub.namedParameters.put("on-error", "continue");
+        expected.setScriptStopOnError(false);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+
+        parametersStub.namedParameters.put("on-error", "stop");
+        expected.setScriptStopOnError(true);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidScriptParameters_ignored() {
+        parametersStub.namedParameters.put("script", "a\0");
+        parametersStub.namedParameters.put("on-error", "sometimes");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_rawArguments_sameAsNamedParameters() {
+        parametersStub.namedParameters.put("config", "config.json");
+        parametersStub.namedParameters.put("script", "nightly.txt");
+        parametersStub.namedParameters.put("on-error", "continue");
+        String[] arguments = {"--headless", "--config=config.json", "--script=nightly.txt", "--on-error=continue",
+            "unnamed", "--=ignored"};
+
+        assertEquals(AppParameters.parse(parametersStub), AppParameters.parse(arguments));
+        assertEquals(expected, AppParameters.parse(new String[] {"--headless"}));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", scriptPath=" + appParameters.getScriptPath() + ", isScriptStopOnError=true}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +101,16 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different script path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setScriptPath(Paths.get("script.txt"));
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different behaviour on errors -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setScriptStopOnError(false);
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
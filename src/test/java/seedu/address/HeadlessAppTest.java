@@ -0,0 +1,106 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonUtil;
+
+public class HeadlessAppTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private StorageManager storage;
+    private HeadlessApp app;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        app = new HeadlessApp(new LogicManager(new ModelManager(), storage), new PrintStream(out, true),
+                new PrintStream(err, true));
+    }
+
+    @Test
+    public void runCommands_validCommands_printsFeedbackAndSaves() throws Exception {
+        String input = ListCommand.COMMAND_WORD + "\n\n  " + PersonUtil.getAddCommand(AMY) + "  \n";
+
+        int status = app.runCommands(new BufferedReader(new StringReader(input)), false);
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, status);
+        List<String> lines = out.toString().lines().toList();
+        assertEquals(2, lines.size());
+        assertEquals(ListCommand.MESSAGE_SUCCESS, lines.get(0));
+        assertEquals("", err.toString());
+        assertEquals(List.of(AMY), storage.readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void runCommands_failedCommand_carriesOnAndReportsFailure() throws Exception {
+        String input = "blarghxyz\n" + PersonUtil.getAddCommand(AMY) + "\n";
+
+        int status = app.runCommands(new BufferedReader(new StringReader(input)), false);
+
+        assertEquals(HeadlessApp.EXIT_FAILURE, status);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, err.toString().strip());
+        assertEquals(List.of(AMY), storage.readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void runCommands_exit_stopsReading() {
+        String input = "exit\n" + PersonUtil.getAddCommand(AMY) + "\n";
+
+        int status = app.runCommands(new BufferedReader(new StringReader(input)), true);
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, status);
+        assertEquals(HeadlessApp.PROMPT + ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT, out.toString().strip());
+    }
+
+    @Test
+    public void runScript_validScript_printsSummaryAndSaves() throws Exception {
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, List.of("# nightly import", PersonUtil.getAddCommand(AMY),
+                PersonUtil.getAddCommand(BOB)));
+
+        int status = app.runScript(script, true);
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, status);
+        assertTrue(out.toString().contains("2 succeeded, 0 failed."));
+        assertEquals(List.of(BOB, AMY), storage.readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void runScript_failedCommand_reportsFailure() {
+        Path script = temporaryFolder.resolve("script.txt");
+
+        assertEquals(HeadlessApp.EXIT_FAILURE, app.runScript(script, true));
+        assertEquals(String.format(RunCommand.MESSAGE_FILE_NOT_FOUND, script), err.toString().strip());
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvReaderTest {
+
+    @Test
+    public void readRecord_plainFields_splitsOnCommas() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a,b,,c\r\nd\n,\n"));
+
+        assertEquals(List.of("a", "b", "", "c"), reader.readRecord());
+        assertEquals(1, reader.getRecordLineNumber());
+        assertEquals(List.of("d"), reader.readRecord());
+        assertEquals(2, reader.getRecordLineNumber());
+        assertEquals(List.of("", ""), reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_quotedFields_keepsCommasQuotesAndLineBreaks() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\"a, b\",\"say \"\"hi\"\"\",\"two\nlines\"\nlast"));
+
+        assertEquals(List.of("a, b", "say \"hi\"", "two\nlines"), reader.readRecord());
+        assertEquals(1, reader.getRecordLineNumber());
+        assertEquals(List.of("last"), reader.readRecord());
+        assertEquals(3, reader.getRecordLineNumber());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_emptyInput_returnsNull() throws IOException {
+        assertNull(new CsvReader(new StringReader("")).readRecord());
+    }
+
+    @Test
+    public void readRecord_unclosedQuote_throwsIoException() {
+        CsvReader reader = new CsvReader(new StringReader("a\n\"b,c\nd"));
+        assertThrows(IOException.class, "Quoted field starting on line 2 is not closed", () -> {
+            reader.readRecord();
+            reader.readRecord();
+        });
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvWriterTest {
+
+    @Test
+    public void writeRecord_specialCharacters_readBackUnchanged() throws IOException {
+        List<String> fields = List.of("plain", "", "a, b", "say \"hi\"", "two\nlines", "cr\r\nlf");
+        StringWriter out = new StringWriter();
+        CsvWriter writer = new CsvWriter(out);
+
+        writer.writeRecord(fields);
+        writer.writeRecord(List.of("last"));
+        writer.flush();
+
+        assertEquals("plain,,\"a, b\",\"say \"\"hi\"\"\",\"two\nlines\",\"cr\r\nlf\"\r\nlast\r\n", out.toString());
+        CsvReader reader = new CsvReader(new StringReader(out.toString()));
+        assertEquals(fields, reader.readRecord());
+        assertEquals(List.of("last"), reader.readRecord());
+    }
+}
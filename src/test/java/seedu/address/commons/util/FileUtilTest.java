@@ -1,13 +1,22 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +29,31 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_existingFile_replacedWithoutTemporaryFile() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFileAtomically(file, "old content");
+        FileUtil.writeToFileAtomically(file, "new");
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getTemporaryFilePath(file)));
+    }
+
+    @Test
+    public void writeToFileAtomically_writerFails_keepsFileAndDeletesTemporaryFile() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFileAtomically(file, "old content");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write(new byte[] {'n', 'e', 'w'});
+            throw new IOException("dummy failure");
+        }));
+        assertThrows(IllegalStateException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            throw new IllegalStateException("dummy failure");
+        }));
+
+        assertEquals("old content", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getTemporaryFilePath(file)));
+    }
+
 }
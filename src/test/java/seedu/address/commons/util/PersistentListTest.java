@@ -0,0 +1,82 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void of_elements_preservesOrder() {
+        List<Integer> elements = List.of(3, 1, 4, 1, 5, 9, 2, 6);
+        PersistentList<Integer> list = PersistentList.of(elements);
+        assertEquals(elements, list.toList());
+        assertEquals(elements.size(), list.size());
+        assertEquals(Integer.valueOf(9), list.get(5));
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIllegalArgumentException() {
+        PersistentList<Integer> list = PersistentList.of(List.of(1, 2));
+        assertThrows(IllegalArgumentException.class, () -> list.get(2));
+        assertThrows(IllegalArgumentException.class, () -> list.get(-1));
+        assertThrows(IllegalArgumentException.class, () -> PersistentList.<Integer>empty().remove(0));
+    }
+
+    @Test
+    public void modify_olderVersionsUnchanged() {
+        PersistentList<String> original = PersistentList.of(List.of("a", "b", "c"));
+        PersistentList<String> added = original.add(1, "x");
+        PersistentList<String> replaced = added.set(0, "y");
+        PersistentList<String> removed = replaced.remove(3);
+
+        assertEquals(List.of("a", "b", "c"), original.toList());
+        assertEquals(List.of("a", "x", "b", "c"), added.toList());
+        assertEquals(List.of("y", "x", "b", "c"), replaced.toList());
+        assertEquals(List.of("y", "x", "b"), removed.toList());
+    }
+
+    @Test
+    public void modify_randomOperations_matchesArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.add(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.set(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            }
+        }
+        assertEquals(expected, actual.toList());
+    }
+
+    @Test
+    public void countNodesNotIn_smallChange_logarithmic() {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 1024; i++) {
+            elements.add(i);
+        }
+        PersistentList<Integer> original = PersistentList.of(elements);
+        PersistentList<Integer> changed = original.add(512, -1).remove(0).set(700, -2);
+
+        assertTrue(changed.countNodesNotIn(original) < 100);
+        // Lists that were built separately share nothing
+        assertEquals(original.size(), original.countNodesNotIn(PersistentList.of(elements)));
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.logic.Messages.MESSAGE_UNCLEAR_BULK_CONFIRMATION;
 import static seedu.address.logic.Messages.MESSAGE_UNCLEAR_CLEAR_CONFIRMATION;
 import static seedu.address.logic.Messages.MESSAGE_UNCLEAR_DELETE_CONFIRMATION;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
@@ -14,12 +16,19 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,20 +37,27 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.BulkChange;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.storage.ExportFormat;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonUtil;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
@@ -81,17 +97,144 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void execute_storageThrowsIoException_reportsFailure() throws Exception {
+        assertFailureReportedForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_reportsFailure() throws Exception {
+        assertFailureReportedForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_exportCommand_writesFileInBackground() throws Exception {
+        model.addPerson(AMY);
+        Path exportFile = temporaryFolder.resolve("export.csv");
+        CompletableFuture<CommandResult> exportResult = new CompletableFuture<>();
+        logic.setExportResultHandler(exportResult::complete);
+
+        CommandResult result = logic.execute(ExportCommand.COMMAND_WORD + " " + exportFile);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_STARTED, 1, exportFile), result.getFeedbackToUser());
+        assertEquals(ExportCommand.getSuccessMessage(ExportFormat.CSV, 1, exportFile),
+                exportResult.get(10, TimeUnit.SECONDS).getFeedbackToUser());
+        assertTrue(Files.readString(exportFile).contains(AMY.getName().fullName));
+    }
+
+    @Test
+    public void execute_exportToUnwritableFile_reportsFailure() throws Exception {
+        model.addPerson(AMY);
+        // A non-empty directory cannot be replaced by the exported file
+        Path exportFile = temporaryFolder.resolve("export.csv");
+        Files.createDirectories(exportFile.resolve("child"));
+        CompletableFuture<CommandResult> exportResult = new CompletableFuture<>();
+        logic.setExportResultHandler(exportResult::complete);
+
+        logic.execute(ExportCommand.COMMAND_WORD + " " + exportFile);
+
+        CommandResult result = exportResult.get(10, TimeUnit.SECONDS);
+        assertEquals(CommandResult.DisplayType.WARNING, result.getDisplayType());
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(ExportCommand.MESSAGE_FAILURE, exportFile, "")));
+        assertTrue(Files.isDirectory(exportFile.resolve("child")));
+    }
+
+    @Test
+    public void execute_exportThrowsRuntimeException_reportsFailure() throws Exception {
+        model.addPerson(AMY);
+        IllegalStateException failure = new IllegalStateException("dummy formatter failure");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("prefs.json"))) {
+            @Override
+            public int exportPersons(Iterable<Person> persons, Path filePath, ExportFormat format) {
+                throw failure;
+            }
+        };
+        logic = new LogicManager(model, storage);
+        CompletableFuture<CommandResult> exportResult = new CompletableFuture<>();
+        logic.setExportResultHandler(exportResult::complete);
+        Path exportFile = temporaryFolder.resolve("export.csv");
+
+        logic.execute(ExportCommand.COMMAND_WORD + " " + exportFile);
+
+        CommandResult result = exportResult.get(10, TimeUnit.SECONDS);
+        assertEquals(CommandResult.DisplayType.WARNING, result.getDisplayType());
+        assertEquals(String.format(ExportCommand.MESSAGE_FAILURE, exportFile, failure), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_runCommand_runsScriptAsOneChangeSavedOnce() throws Exception {
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, List.of("# two new persons", PersonUtil.getAddCommand(AMY), "",
+                "  " + PersonUtil.getAddCommand(BOB)));
+        int[] saveCount = new int[1];
+        Logic logic = new LogicManager(model, new StubStorage() {
+            @Override
+            public void saveAddressBookInBackground(ReadOnlyAddressBook addressBook) {
+                saveCount[0]++;
+            }
+        });
+
+        CommandResult result = logic.execute(RunCommand.COMMAND_WORD + " " + script);
+
+        assertTrue(result.getFeedbackToUser().startsWith(getSummaryStart(2, 2, script)));
+        assertTrue(result.getFeedbackToUser().contains("2 succeeded, 0 failed."));
+        assertTrue(result.getFeedbackToUser().contains("\nLine 2 ("));
+        assertTrue(result.getFeedbackToUser().contains("\nLine 4 ("));
+        assertEquals(CommandResult.DisplayType.INFO, result.getDisplayType());
+        assertEquals(1, saveCount[0]);
+        assertEquals(List.of(BOB, AMY), model.getAddressBook().getPersonList());
+
+        // the whole script is undone at once
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(List.of(), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_runCommandWithFailingLine_stopsAtFailure() throws Exception {
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, List.of(PersonUtil.getAddCommand(AMY), "delete 9", PersonUtil.getAddCommand(BOB)));
+
+        CommandResult result = logic.execute(RunCommand.COMMAND_WORD + " " + script);
+
+        assertTrue(result.getFeedbackToUser().startsWith(getSummaryStart(2, 3, script)));
+        assertTrue(result.getFeedbackToUser().contains("1 succeeded, 1 failed. "
+                + String.format(RunCommand.MESSAGE_STOPPED, 2)));
+        assertTrue(result.getFeedbackToUser().endsWith(" failed: " + MESSAGE_INVALID_PERSON_DISPLAYED_INDEX));
+        assertEquals(CommandResult.DisplayType.WARNING, result.getDisplayType());
+        assertEquals(List.of(AMY), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void runScript_continueOnError_runsEveryLine() throws Exception {
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, List.of(PersonUtil.getAddCommand(AMY), UndoCommand.COMMAND_WORD,
+                RunCommand.COMMAND_WORD + " " + script, PersonUtil.getAddCommand(BOB)));
+
+        CommandResult result = logic.runScript(script, false);
+
+        assertTrue(result.getFeedbackToUser().startsWith(getSummaryStart(4, 4, script)));
+        assertTrue(result.getFeedbackToUser().contains("2 succeeded, 2 failed."));
+        assertTrue(result.getFeedbackToUser().contains(
+                String.format(RunCommand.MESSAGE_NOT_IN_SCRIPT, UndoCommand.COMMAND_WORD)));
+        assertTrue(result.getFeedbackToUser().contains(
+                String.format(RunCommand.MESSAGE_NOT_IN_SCRIPT, RunCommand.COMMAND_WORD)));
+        assertEquals(List.of(BOB, AMY), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void runScript_missingFile_throwsCommandException() {
+        Path script = temporaryFolder.resolve("missing.txt");
+        assertThrows(CommandException.class, String.format(RunCommand.MESSAGE_FILE_NOT_FOUND, script), () ->
+                logic.runScript(script, true));
+    }
+
+    private static String getSummaryStart(int ranCount, int commandCount, Path script) {
+        String summary = String.format(RunCommand.MESSAGE_SUMMARY, ranCount, commandCount, script, 0, 0, 0);
+        return summary.substring(0, summary.indexOf(" in ") + " in ".length());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -153,11 +296,13 @@ public class LogicManagerTest {
 
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
+     * The command succeeds, the failure is passed to the save failure handler, and exiting is refused.
      *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedMessage the message expected to be reported by the Logic component
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertFailureReportedForExceptionFromStorage(IOException e, String expectedMessage)
+            throws Exception {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
@@ -174,6 +319,8 @@ public class LogicManagerTest {
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         logic = new LogicManager(model, storage);
+        List<String> reportedFailures = new ArrayList<>();
+        logic.setSaveFailureHandler(reportedFailures::add);
 
         // Triggers the saveAddressBook method by executing an add command
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
@@ -181,7 +328,13 @@ public class LogicManagerTest {
         Person expectedPerson = new PersonBuilder(AMY).withConditions().withDetails().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        logic.execute(addCommand);
+        assertThrows(IOException.class, storage::flushAddressBook);
+        assertEquals(List.of(expectedMessage), reportedFailures);
+        assertEquals(expectedModel, model);
+
+        // Exiting retries the save and refuses to exit if the data still cannot be saved
+        assertCommandFailure(ExitCommand.COMMAND_WORD, CommandException.class, expectedMessage, expectedModel);
     }
 
     @Test
@@ -199,6 +352,21 @@ public class LogicManagerTest {
         assertEquals(MESSAGE_UNCLEAR_DELETE_CONFIRMATION, exception.getMessage());
     }
 
+    @Test
+    public void execute_gibberishInputWhileBulkChangePending_throwsParseException() {
+        Model model = new ModelManager();
+        model.setPendingBulkChange(BulkChange.deletion(List.of(new PersonBuilder().build())));
+        Logic logic = new LogicManager(model, new StubStorage());
+
+        seedu.address.logic.parser.exceptions.ParseException exception =
+                org.junit.jupiter.api.Assertions.assertThrows(
+                        seedu.address.logic.parser.exceptions.ParseException.class, ()
+                                -> logic.execute("blarghxyz")
+                );
+
+        assertEquals(MESSAGE_UNCLEAR_BULK_CONFIRMATION, exception.getMessage());
+    }
+
     @Test
     public void execute_invalidPersonIndex_throwsCommandException() {
         Model model = new ModelManager();
@@ -310,5 +478,25 @@ public class LogicManagerTest {
         public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
             // No-op
         }
+
+        @Override
+        public void saveAddressBookInBackground(ReadOnlyAddressBook addressBook) {
+            // No-op
+        }
+
+        @Override
+        public void flushAddressBook() throws IOException {
+            // No-op
+        }
+
+        @Override
+        public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+            // No-op
+        }
+
+        @Override
+        public int exportPersons(Iterable<Person> persons, Path filePath, ExportFormat format) throws IOException {
+            return 0;
+        }
     }
 }
@@ -10,6 +10,7 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -19,10 +20,12 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.BulkChange;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.PersonBuilder;
 
@@ -124,6 +127,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -149,6 +157,41 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setPersons(List<Person> targets, List<Person> editedPersons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deletePersons(List<Person> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -201,6 +244,26 @@ public class AddCommandTest {
         public void sortPersonList() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void setPendingBulkChange(BulkChange bulkChange) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public BulkChange getPendingBulkChange() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isBulkChangePending() {
+            return false;
+        }
+
+        @Override
+        public void clearPendingBulkChange() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -294,8 +357,10 @@ public class AddCommandTest {
     }
 
     @Test
-    public void execute_moreThan30Persons_throwsCommandException() throws Exception {
-        Model model = new ModelManager();
+    public void execute_moreThanPersonLimit_throwsCommandException() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setPersonLimit(30);
+        Model model = new ModelManager(new AddressBook(), userPrefs);
 
         for (int i = 0; i < 30; i++) {
             Person person = new PersonBuilder()
@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+/**
+ * Contains integration tests (interaction with the Model, ConfirmCommand and AbortCommand) and unit tests for
+ * {@code DeleteAllCommand}.
+ */
+public class DeleteAllCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_filteredListConfirmed_deletesDisplayedPersonsInOneChange() throws CommandException {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        Person personToDelete = model.getFilteredPersonList().get(0);
+        long modificationCount = model.getAddressBook().getModificationCount();
+
+        CommandResult result = new DeleteAllCommand().execute(model);
+
+        assertEquals(String.format(DeleteAllCommand.MESSAGE_CONFIRMATION, 1), result.getFeedbackToUser());
+        assertTrue(model.hasPerson(personToDelete));
+
+        result = new ConfirmCommand().execute(model);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(personToDelete);
+        assertEquals(String.format(ConfirmCommand.MESSAGE_DELETE_ALL_SUCCESS, 1), result.getFeedbackToUser());
+        assertEquals(expectedModel.getAddressBook(), model.getAddressBook());
+        assertEquals(modificationCount + 1, model.getAddressBook().getModificationCount());
+        assertFalse(model.isBulkChangePending());
+    }
+
+    @Test
+    public void execute_unfilteredListConfirmed_deletesEveryPerson() throws CommandException {
+        new DeleteAllCommand().execute(model);
+        new ConfirmCommand().execute(model);
+
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void execute_aborted_deletesNothing() throws CommandException {
+        int size = model.getFilteredPersonList().size();
+
+        new DeleteAllCommand().execute(model);
+        CommandResult result = new AbortCommand().execute(model);
+
+        assertEquals(String.format(AbortCommand.MESSAGE_DELETE_ALL_ABORT, size), result.getFeedbackToUser());
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertFalse(model.isBulkChangePending());
+    }
+
+    @Test
+    public void execute_noDisplayedPersons_throwsCommandException() {
+        model.updateFilteredPersonList(unused -> false);
+
+        assertCommandFailure(new DeleteAllCommand(), model, DeleteAllCommand.MESSAGE_NO_PERSONS);
+        assertFalse(model.isBulkChangePending());
+    }
+
+    @Test
+    public void equals() {
+        DeleteAllCommand deleteAllCommand = new DeleteAllCommand();
+
+        assertTrue(deleteAllCommand.equals(deleteAllCommand));
+        assertTrue(deleteAllCommand.equals(new DeleteAllCommand()));
+        assertFalse(deleteAllCommand.equals(null));
+        assertFalse(deleteAllCommand.equals(new DeleteCommand(INDEX_FIRST_PERSON)));
+    }
+}
@@ -0,0 +1,134 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.EditPersonDescriptorBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model, ConfirmCommand and AbortCommand) and unit tests for
+ * {@code EditAllCommand}.
+ */
+public class EditAllCommandTest {
+
+    private static final String NEW_APPOINTMENT_DATE = "2025-05-01";
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_confirmed_editsEveryDisplayedPersonInOneChange() throws CommandException {
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder()
+                .withAppointmentDate(NEW_APPOINTMENT_DATE).build();
+        List<Person> targets = List.copyOf(model.getFilteredPersonList());
+        long modificationCount = model.getAddressBook().getModificationCount();
+
+        CommandResult result = new EditAllCommand(descriptor).execute(model);
+
+        assertEquals(String.format(EditAllCommand.MESSAGE_CONFIRMATION, targets.size()),
+                result.getFeedbackToUser());
+        assertTrue(model.isBulkChangePending());
+        assertEquals(modificationCount, model.getAddressBook().getModificationCount());
+
+        result = new ConfirmCommand().execute(model);
+
+        Model expectedModel = new ModelManager(new AddressBook(), new UserPrefs());
+        for (Person target : targets) {
+            expectedModel.addPerson(new PersonBuilder(target).withAppointmentDate(NEW_APPOINTMENT_DATE).build());
+        }
+        assertEquals(String.format(ConfirmCommand.MESSAGE_EDIT_ALL_SUCCESS, targets.size()),
+                result.getFeedbackToUser());
+        assertEquals(expectedModel.getFilteredPersonList(), model.getFilteredPersonList());
+        assertEquals(modificationCount + 1, model.getAddressBook().getModificationCount());
+        assertFalse(model.isBulkChangePending());
+    }
+
+    @Test
+    public void execute_filteredList_editsOnlyDisplayedPersons() throws CommandException {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        Person target = model.getFilteredPersonList().get(0);
+        Person editedPerson = new PersonBuilder(target).withAppointmentDate(NEW_APPOINTMENT_DATE).build();
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder()
+                .withAppointmentDate(NEW_APPOINTMENT_DATE).build();
+
+        new EditAllCommand(descriptor).execute(model);
+        new ConfirmCommand().execute(model);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.setPerson(target, editedPerson);
+        assertEquals(expectedModel.getFilteredPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_aborted_changesNothing() throws CommandException {
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder()
+                .withAppointmentDate(NEW_APPOINTMENT_DATE).build();
+        int size = model.getFilteredPersonList().size();
+
+        new EditAllCommand(descriptor).execute(model);
+        CommandResult result = new AbortCommand().execute(model);
+
+        assertEquals(String.format(AbortCommand.MESSAGE_EDIT_ALL_ABORT, size), result.getFeedbackToUser());
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertFalse(model.isBulkChangePending());
+    }
+
+    @Test
+    public void execute_sameIdentityForManyPersons_throwsCommandException() {
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withName("Same Name")
+                .withPhone("91234567").build();
+
+        assertCommandFailure(new EditAllCommand(descriptor), model, EditCommand.MESSAGE_DUPLICATE_PERSON);
+        assertFalse(model.isBulkChangePending());
+    }
+
+    @Test
+    public void execute_identityOfPersonNotDisplayed_throwsCommandException() {
+        Person undisplayedPerson = model.getFilteredPersonList().get(1);
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder()
+                .withName(undisplayedPerson.getName().fullName)
+                .withPhone(undisplayedPerson.getPhone().value).build();
+
+        assertCommandFailure(new EditAllCommand(descriptor), model, EditCommand.MESSAGE_DUPLICATE_PERSON);
+    }
+
+    @Test
+    public void execute_noDisplayedPersons_throwsCommandException() {
+        model.updateFilteredPersonList(unused -> false);
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder()
+                .withAppointmentDate(NEW_APPOINTMENT_DATE).build();
+
+        assertCommandFailure(new EditAllCommand(descriptor), model, EditAllCommand.MESSAGE_NO_PERSONS);
+    }
+
+    @Test
+    public void equals() {
+        EditAllCommand editAllCommand = new EditAllCommand(DESC_AMY);
+
+        assertTrue(editAllCommand.equals(editAllCommand));
+        assertTrue(editAllCommand.equals(new EditAllCommand(new EditPersonDescriptor(DESC_AMY))));
+        assertFalse(editAllCommand.equals(null));
+        assertFalse(editAllCommand.equals(new ClearCommand()));
+        assertFalse(editAllCommand.equals(new EditAllCommand(DESC_BOB)));
+        assertFalse(editAllCommand.equals(new EditCommand(INDEX_FIRST_PERSON, DESC_AMY)));
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.ExportFormat;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ExportCommand}.
+ */
+public class ExportCommandTest {
+
+    private static final Path FILE_PATH = Path.of("export.csv");
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_filteredList_exportsDisplayedPersons() {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
+        PersistentList<Person> displayedPersons = PersistentList.of(model.getFilteredPersonList());
+
+        CommandResult expectedResult = new CommandResult(String.format(ExportCommand.MESSAGE_STARTED, 1, FILE_PATH),
+                new ExportRequest(displayedPersons, FILE_PATH, ExportFormat.CSV));
+        assertCommandSuccess(new ExportCommand(FILE_PATH, ExportFormat.CSV, false), model, expectedResult,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_allPersons_exportsEveryPerson() throws Exception {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+
+        CommandResult result = new ExportCommand(FILE_PATH, ExportFormat.ICS, true).execute(model);
+
+        PersistentList<Person> allPersons = PersistentList.of(model.getAddressBook().getPersonList());
+        assertEquals(new ExportRequest(allPersons, FILE_PATH, ExportFormat.ICS), result.getExportRequest().get());
+        assertSame(model.getAddressBook().getSnapshot(), result.getExportRequest().get().getPersons());
+    }
+
+    @Test
+    public void execute_noDisplayedPersons_throwsCommandException() {
+        model.updateFilteredPersonList(person -> false);
+        assertCommandFailure(new ExportCommand(FILE_PATH, ExportFormat.CSV, false), model,
+                ExportCommand.MESSAGE_NO_PERSONS);
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCommand = new ExportCommand(FILE_PATH, ExportFormat.CSV, false);
+
+        // same object -> returns true
+        assertTrue(exportCommand.equals(exportCommand));
+
+        // same values -> returns true
+        assertTrue(exportCommand.equals(new ExportCommand(Path.of("export.csv"), ExportFormat.CSV, false)));
+
+        // null -> returns false
+        assertFalse(exportCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(Path.of("other.csv"), ExportFormat.CSV, false)));
+
+        // different format -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(FILE_PATH, ExportFormat.ICS, false)));
+
+        // all persons -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(FILE_PATH, ExportFormat.CSV, true)));
+    }
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_NO_SUCH_PERSONS;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
@@ -13,13 +14,21 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.AppointmentDate;
+import seedu.address.model.person.AppointmentDateRangePredicate;
+import seedu.address.model.person.ConditionTagsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -75,6 +84,48 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(ELLE, FIONA, CARL), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_dateRange_personsInRangeFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        AppointmentDateRangePredicate predicate = new AppointmentDateRangePredicate(
+                new AppointmentDate("2025-01-01"), new AppointmentDate("2025-01-31"));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_openStartedDateRange_includesWholeEndDay() {
+        AppointmentDateRangePredicate predicate = new AppointmentDateRangePredicate(
+                new AppointmentDate(""), new AppointmentDate("2025-02-09"));
+        model.updateFilteredPersonList(predicate);
+        assertEquals(Arrays.asList(BENSON, ELLE, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_conditionTags_matchesAllClauses() {
+        Person dementiaAndDiabetes = new PersonBuilder().withName("Ann Tan").withPhone("91110001")
+                .withConditions("dementia", "diabetes").build();
+        Person dementiaAndHighBp = new PersonBuilder().withName("Ben Lim").withPhone("91110002")
+                .withConditions("Dementia", "High BP").build();
+        Person diabetesOnly = new PersonBuilder().withName("Cai Ong").withPhone("91110003")
+                .withConditions("diabetes").build();
+        model.addPerson(dementiaAndDiabetes);
+        model.addPerson(dementiaAndHighBp);
+        model.addPerson(diabetesOnly);
+
+        model.updateFilteredPersonList(new ConditionTagsPredicate(List.of(List.of("dementia"))));
+        assertEquals(Set.of(dementiaAndDiabetes, dementiaAndHighBp), new HashSet<>(model.getFilteredPersonList()));
+
+        model.updateFilteredPersonList(new ConditionTagsPredicate(
+                List.of(List.of("dementia"), List.of("diabetes", "high bp"))));
+        assertEquals(Set.of(dementiaAndDiabetes, dementiaAndHighBp), new HashSet<>(model.getFilteredPersonList()));
+
+        model.updateFilteredPersonList(new ConditionTagsPredicate(List.of(List.of("dementia"), List.of("diabetes"))));
+        assertEquals(List.of(dementiaAndDiabetes), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
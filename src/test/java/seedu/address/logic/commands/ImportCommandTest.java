@@ -0,0 +1,148 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.parser.CsvPersonParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ImportCommand}.
+ */
+public class ImportCommandTest {
+
+    private static final String HEADER = "name,phone,address,gender,appointment,medicine,conditions,details";
+    private static final String AMY_ROW = "Amy Bee,11111111,\"Block 312, Amy Street 1\",Female,2025-10-10,Painkiller,,"
+            + "friend";
+    private static final String BOB_ROW = "Bob Choo,22222222,\"Block 123, Bobby Street 3\",Male,2025-01-01 10:30,"
+            + "Panadaol,,husband;friend";
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_validFile_addsEveryPerson() throws IOException {
+        Path file = writeCsv(HEADER, AMY_ROW, BOB_ROW);
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.addPersons(List.of(AMY, BOB));
+
+        assertCommandSuccess(new ImportCommand(file), model,
+                String.format(ImportCommand.MESSAGE_SUCCESS, 2, file), expectedModel);
+    }
+
+    @Test
+    public void execute_invalidAndDuplicateRows_addsOnlyValidPersons() throws Exception {
+        String aliceRow = ALICE.getName() + "," + ALICE.getPhone() + ",somewhere,female,,,,";
+        Path file = writeCsv(HEADER, AMY_ROW, "*Bad Name,12345678,somewhere,male,,,,", aliceRow, "", AMY_ROW,
+                "Carl,abc,somewhere,male,,,,", "Dan,12345678");
+
+        CommandResult result = new ImportCommand(file).execute(model);
+
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 1, file) + "\n"
+                + String.format(ImportCommand.MESSAGE_SKIPPED_ROWS, 5) + "\n"
+                + "Line 3: " + Name.MESSAGE_CONSTRAINTS + "\n"
+                + "Line 4: " + AddCommand.MESSAGE_DUPLICATE_PERSON + "\n"
+                + "Line 6: " + String.format(ImportCommand.MESSAGE_DUPLICATE_ROW, 2) + "\n"
+                + "Line 7: " + Phone.MESSAGE_CONSTRAINTS + "\n"
+                + "Line 8: " + String.format(CsvPersonParser.MESSAGE_WRONG_CELL_COUNT, 8, 2);
+        assertEquals(new CommandResult(expectedMessage, CommandResult.DisplayType.WARNING), result);
+        assertTrue(model.hasPerson(AMY));
+        assertEquals(getTypicalAddressBook().getPersonList().size() + 1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_noValidRows_throwsCommandException() throws IOException {
+        Path file = writeCsv(HEADER, "*Bad Name,12345678,somewhere,male,,,,");
+
+        assertCommandFailure(new ImportCommand(file), model,
+                String.format(ImportCommand.MESSAGE_NOTHING_IMPORTED, file) + "\n"
+                + String.format(ImportCommand.MESSAGE_SKIPPED_ROWS, 1) + "\n"
+                + "Line 2: " + Name.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void execute_manyInvalidRows_listsOnlySomeOfThem() throws Exception {
+        String[] lines = new String[ImportCommand.MAX_REPORTED_ERRORS + 3];
+        lines[0] = HEADER;
+        lines[1] = AMY_ROW;
+        for (int i = 2; i < lines.length; i++) {
+            lines[i] = "*Bad Name,12345678,somewhere,male,,,,";
+        }
+        Path file = writeCsv(lines);
+
+        String feedback = new ImportCommand(file).execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.endsWith(String.format(ImportCommand.MESSAGE_MORE_SKIPPED_ROWS, 1)));
+        assertFalse(feedback.contains("Line " + lines.length + ":"));
+    }
+
+    @Test
+    public void execute_missingColumn_throwsCommandException() throws IOException {
+        Path file = writeCsv("name,phone,address", "Amy Bee,11111111,somewhere");
+
+        assertCommandFailure(new ImportCommand(file), model, String.format(ImportCommand.MESSAGE_READ_ERROR, file,
+                String.format(CsvPersonParser.MESSAGE_MISSING_COLUMNS, "name, phone, address, gender")));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = testFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(file), model, String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, file));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importFirstCommand = new ImportCommand(Path.of("first.csv"));
+        ImportCommand importSecondCommand = new ImportCommand(Path.of("second.csv"));
+
+        // same object -> returns true
+        assertTrue(importFirstCommand.equals(importFirstCommand));
+
+        // same values -> returns true
+        assertTrue(importFirstCommand.equals(new ImportCommand(Path.of("first.csv"))));
+
+        // different types -> returns false
+        assertFalse(importFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importFirstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importFirstCommand.equals(importSecondCommand));
+    }
+
+    private Path writeCsv(String... lines) throws IOException {
+        Path file = testFolder.resolve("persons.csv");
+        Files.write(file, List.of(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code RunCommand}.
+ * The commands in a script are run by the logic component, and are tested in {@code LogicManagerTest}.
+ */
+public class RunCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_script_returnsScriptRequest() throws Exception {
+        List<String> lines = List.of("# nightly", "list", "", "  delete 1");
+        Path script = testFolder.resolve("script.txt");
+        Files.write(script, lines);
+
+        CommandResult result = new RunCommand(script, false).execute(model);
+
+        assertEquals(String.format(RunCommand.MESSAGE_STARTED, 2, script), result.getFeedbackToUser());
+        assertEquals(new ScriptRequest(lines, script, false), result.getScriptRequest().get());
+        assertEquals(new ModelManager(getTypicalAddressBook(), new UserPrefs()), model);
+    }
+
+    @Test
+    public void execute_noCommands_throwsCommandException() throws IOException {
+        Path script = testFolder.resolve("script.txt");
+        Files.write(script, List.of("", "# nothing to do", "   "));
+        assertCommandFailure(new RunCommand(script, true), model,
+                String.format(RunCommand.MESSAGE_NO_COMMANDS, script));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path script = testFolder.resolve("missing.txt");
+        assertCommandFailure(new RunCommand(script, true), model,
+                String.format(RunCommand.MESSAGE_FILE_NOT_FOUND, script));
+    }
+
+    @Test
+    public void isSkipped() {
+        assertTrue(RunCommand.isSkipped(""));
+        assertTrue(RunCommand.isSkipped(" \t"));
+        assertTrue(RunCommand.isSkipped("  # comment"));
+        assertFalse(RunCommand.isSkipped("list # not a comment"));
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(Path.of("a.txt"), true);
+
+        // same values -> returns true
+        assertTrue(runCommand.equals(new RunCommand(Path.of("a.txt"), true)));
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(runCommand.equals(new RunCommand(Path.of("b.txt"), true)));
+
+        // different behaviour on errors -> returns false
+        assertFalse(runCommand.equals(new RunCommand(Path.of("a.txt"), false)));
+    }
+}
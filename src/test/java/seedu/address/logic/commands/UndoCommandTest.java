@@ -0,0 +1,84 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code UndoCommand} and {@code RedoCommand}.
+ */
+public class UndoCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_noHistory_failure() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_undoThenRedo_success() {
+        Person person = new PersonBuilder().build();
+        Person firstPerson = model.getFilteredPersonList().get(0);
+        model.addPerson(person);
+        model.commitAddressBook();
+        model.deletePerson(firstPerson);
+        model.commitAddressBook();
+
+        expectedModel.addPerson(person);
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        expectedModel.deletePerson(person);
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+
+        expectedModel.addPerson(person);
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        expectedModel.deletePerson(firstPerson);
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_newChangeAfterUndo_discardsRedo() {
+        model.addPerson(new PersonBuilder().build());
+        model.commitAddressBook();
+        model.undoAddressBook();
+        model.deletePerson(model.getFilteredPersonList().get(0));
+        model.commitAddressBook();
+
+        assertFalse(model.canRedoAddressBook());
+        assertTrue(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_noMemoryForHistory_cannotUndo() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryMemoryLimit(0);
+        model.setUserPrefs(userPrefs);
+        model.addPerson(new PersonBuilder().build());
+        model.commitAddressBook();
+
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+}
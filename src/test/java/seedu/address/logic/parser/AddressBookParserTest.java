@@ -1,12 +1,14 @@
 package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Path;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -19,12 +21,19 @@ import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.parser.AddressBookParser.CommandInput;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.storage.ExportFormat;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PersonUtil;
@@ -98,12 +107,36 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_export() throws Exception {
+        ExportCommand command = (ExportCommand) parser.parseCommand(ExportCommand.COMMAND_WORD + " all ward.csv");
+        assertEquals(new ExportCommand(Path.of("ward.csv"), ExportFormat.CSV, true), command);
+    }
+
+    @Test
+    public void parseCommand_run() throws Exception {
+        RunCommand command = (RunCommand) parser.parseCommand(RunCommand.COMMAND_WORD + " continue nightly.txt");
+        assertEquals(new RunCommand(Path.of("nightly.txt"), false), command);
+    }
+
+    @Test
+    public void parseCommand_import() throws Exception {
+        ImportCommand command = (ImportCommand) parser.parseCommand(ImportCommand.COMMAND_WORD + " data/ward.csv");
+        assertEquals(new ImportCommand(Path.of("data/ward.csv")), command);
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -114,4 +147,36 @@ public class AddressBookParserTest {
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
+
+    @Test
+    public void parseCommand_registeredCommand_usesRegisteredParser() throws Exception {
+        AddressBookParser customParser = new AddressBookParser(new CommandRegistry()
+                .register("bye", arguments -> new ExitCommand()));
+        assertTrue(customParser.parseCommand("  bye  now ") instanceof ExitCommand);
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> customParser.parseCommand(
+                ListCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void isRecognizedCommand() {
+        assertTrue(parser.isRecognizedCommand(ListCommand.COMMAND_WORD));
+        assertTrue(parser.isRecognizedCommand("\t delete 1"));
+        assertFalse(parser.isRecognizedCommand("unknownCommand 1"));
+        assertFalse(parser.isRecognizedCommand("   "));
+    }
+
+    @Test
+    public void commandInput_of() {
+        CommandInput input = CommandInput.of("  edit 1 -n  Amy \n");
+        assertEquals(EditCommand.COMMAND_WORD, input.getCommandWord());
+        assertEquals(" 1 -n  Amy", input.getArguments());
+
+        input = CommandInput.of("list");
+        assertEquals(ListCommand.COMMAND_WORD, input.getCommandWord());
+        assertEquals("", input.getArguments());
+
+        input = CommandInput.of(" \t ");
+        assertEquals("", input.getCommandWord());
+        assertEquals("", input.getArguments());
+    }
 }
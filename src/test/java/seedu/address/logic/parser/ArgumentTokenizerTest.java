@@ -136,6 +136,32 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_overlappingPrefixes_longestPrefixTaken() {
+        Prefix dash = new Prefix("-");
+        String argsString = "preamble -tdashT value - dash value -t";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dash, dashT);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, dashT, "dashT value", "");
+        assertArgumentPresent(argMultimap, dash, "dash value");
+    }
+
+    @Test
+    public void tokenize_sharedPrefixTrie_sameAsPrefixes() {
+        PrefixTrie prefixes = PrefixTrie.of(pSlash, dashT, hatQ);
+        String argsString = "SomePreambleString -t dashT-Value p/pSlash value -t another dashT value";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, prefixes);
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, pSlash, "pSlash value");
+        assertArgumentPresent(argMultimap, dashT, "dashT-Value", "another dashT value");
+        assertArgumentAbsent(argMultimap, hatQ);
+
+        // reused for another string
+        argMultimap = ArgumentTokenizer.tokenize(" ^Q hatQ", prefixes);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, hatQ, "hatQ");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
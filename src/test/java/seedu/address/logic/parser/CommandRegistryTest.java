@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ImportCommand;
+
+public class CommandRegistryTest {
+
+    @Test
+    public void register_newCommandWord_parserReturned() {
+        Parser<ExitCommand> parser = arguments -> new ExitCommand();
+        CommandRegistry registry = new CommandRegistry().register("bye", parser);
+        assertTrue(registry.isRegistered("bye"));
+        assertSame(parser, registry.getParser("bye").get());
+        assertFalse(registry.isRegistered("Bye"));
+        assertFalse(registry.getParser("Bye").isPresent());
+    }
+
+    @Test
+    public void register_duplicateCommandWord_throwsIllegalArgumentException() {
+        CommandRegistry registry = new CommandRegistry().register("bye", arguments -> new ExitCommand());
+        assertThrows(IllegalArgumentException.class, String.format(CommandRegistry.MESSAGE_DUPLICATE_COMMAND_WORD,
+                "bye"), () -> registry.register("bye", arguments -> new ExitCommand()));
+    }
+
+    @Test
+    public void register_null_throwsNullPointerException() {
+        CommandRegistry registry = new CommandRegistry();
+        assertThrows(NullPointerException.class, () -> registry.register(null, arguments -> new ExitCommand()));
+        assertThrows(NullPointerException.class, () -> registry.register("bye", null));
+    }
+
+    @Test
+    public void createDefault_parsersReused() {
+        CommandRegistry registry = CommandRegistry.createDefault();
+        assertTrue(registry.isRegistered(ImportCommand.COMMAND_WORD));
+        assertSame(registry.getParser(AddCommand.COMMAND_WORD).get(),
+                registry.getParser(AddCommand.COMMAND_WORD).get());
+    }
+}
@@ -17,6 +17,7 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_APPT_DATE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_CONDITION_DEMENTIA;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_DETAIL_ALONE;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_GENDER_AMY;
@@ -24,6 +25,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_APPT_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CONDITION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DETAILS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
@@ -37,6 +39,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
+import seedu.address.logic.commands.EditAllCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.model.person.Address;
@@ -207,4 +210,19 @@ public class EditCommandParserTest {
 
         assertParseSuccess(parser, userInput, expectedCommand);
     }
+
+    @Test
+    public void parse_allKeyword_returnsEditAllCommand() {
+        String userInput = " all " + PREFIX_APPT_DATE + VALID_APPT_DATE_BOB;
+
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder()
+                .withAppointmentDate(VALID_APPT_DATE_BOB).build();
+
+        assertParseSuccess(parser, userInput, new EditAllCommand(descriptor));
+    }
+
+    @Test
+    public void parse_allKeywordWithoutFields_failure() {
+        assertParseFailure(parser, "all", EditCommand.MESSAGE_NOT_EDITED);
+    }
 }
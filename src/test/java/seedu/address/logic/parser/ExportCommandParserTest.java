@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.storage.ExportFormat;
+
+public class ExportCommandParserTest {
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_displayedPersons_returnsExportCommand() {
+        assertParseSuccess(parser, " ward b.CSV ", new ExportCommand(Path.of("ward b.CSV"), ExportFormat.CSV, false));
+        assertParseSuccess(parser, " appointments.ics", new ExportCommand(Path.of("appointments.ics"),
+                ExportFormat.ICS, false));
+    }
+
+    @Test
+    public void parse_allPersons_returnsExportCommand() {
+        assertParseSuccess(parser, " all  appointments.ics", new ExportCommand(Path.of("appointments.ics"),
+                ExportFormat.ICS, true));
+    }
+
+    @Test
+    public void parse_missingFilePath_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "  ", expectedMessage);
+        assertParseFailure(parser, " all ", expectedMessage);
+    }
+
+    @Test
+    public void parse_unsupportedExtension_throwsParseException() {
+        assertParseFailure(parser, " persons.json", ExportCommandParser.MESSAGE_UNSUPPORTED_FORMAT);
+        assertParseFailure(parser, " .csv", ExportCommandParser.MESSAGE_UNSUPPORTED_FORMAT);
+    }
+}
@@ -9,7 +9,11 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.person.AppointmentDate;
+import seedu.address.model.person.AppointmentDateRangePredicate;
+import seedu.address.model.person.ConditionTagsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.tag.Tag;
 
 public class FindCommandParserTest {
 
@@ -31,4 +35,44 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " -n \n Alice Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_dateRange_returnsFindCommand() {
+        assertParseSuccess(parser, " -d 2025-04-01..2025-04-30", new FindCommand(new AppointmentDateRangePredicate(
+                new AppointmentDate("2025-04-01"), new AppointmentDate("2025-04-30"))));
+        assertParseSuccess(parser, " -d 2025-04-01 09:00 .. 2025-04-01 17:00", new FindCommand(
+                new AppointmentDateRangePredicate(new AppointmentDate("2025-04-01 09:00"),
+                        new AppointmentDate("2025-04-01 17:00"))));
+
+        // same-day range whose end has no time -> runs to the end of that day
+        assertParseSuccess(parser, " -d 2025-04-01 10:00..2025-04-01", new FindCommand(
+                new AppointmentDateRangePredicate(new AppointmentDate("2025-04-01 10:00"),
+                        new AppointmentDate("2025-04-01"))));
+
+        // open-ended ranges
+        assertParseSuccess(parser, " -d 2025-04-01..", new FindCommand(new AppointmentDateRangePredicate(
+                new AppointmentDate("2025-04-01"), new AppointmentDate(""))));
+        assertParseSuccess(parser, " -d ..2025-04-30", new FindCommand(new AppointmentDateRangePredicate(
+                new AppointmentDate(""), new AppointmentDate("2025-04-30"))));
+    }
+
+    @Test
+    public void parse_invalidDateRange_throwsParseException() {
+        assertParseFailure(parser, " -d ..", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " -d 2025-04-30..2025-04-01", FindCommand.MESSAGE_INVALID_DATE_RANGE);
+        assertParseFailure(parser, " -d 2025-04-02 10:00..2025-04-01", FindCommand.MESSAGE_INVALID_DATE_RANGE);
+        assertParseFailure(parser, " -d 2025-04..2025-04-30", AppointmentDate.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " -d 2025-04-01..2025-02-30", AppointmentDate.INVALID_DATE);
+    }
+
+    @Test
+    public void parse_conditionTags_returnsFindCommand() {
+        assertParseSuccess(parser, " -c dementia -c diabetes|High BP", new FindCommand(new ConditionTagsPredicate(
+                List.of(List.of("dementia"), List.of("diabetes", "High BP")))));
+    }
+
+    @Test
+    public void parse_invalidConditionTag_throwsParseException() {
+        assertParseFailure(parser, " -c dementia|", Tag.TagType.CONDITION.emptyInputMessage);
+        assertParseFailure(parser, " -c high*bp", Tag.TagType.CONDITION.constraintMessage);
+    }
 }
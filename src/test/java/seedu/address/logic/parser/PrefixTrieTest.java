@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+
+    private final Prefix n = new Prefix("n/");
+    private final Prefix nr = new Prefix("nr/");
+    private final Prefix p = new Prefix("p/");
+    private final PrefixTrie trie = PrefixTrie.of(n, nr, p);
+
+    @Test
+    public void match_prefixAtIndex_returnsPrefix() {
+        assertEquals(n, trie.match("n/Alice", 0));
+        assertEquals(p, trie.match("n/Alice p/123", 8));
+        assertEquals(p, trie.match("p/", 0));
+    }
+
+    @Test
+    public void match_overlappingPrefixes_returnsLongest() {
+        assertEquals(nr, trie.match("nr/note", 0));
+        assertEquals(n, trie.match("n/r/note", 0));
+    }
+
+    @Test
+    public void match_noPrefixAtIndex_returnsNull() {
+        assertNull(trie.match("Alice", 0));
+        assertNull(trie.match("n", 0));
+        assertNull(trie.match("nr", 0));
+        assertNull(trie.match("n/Alice", 1));
+        assertNull(trie.match("", 0));
+    }
+
+    @Test
+    public void match_emptyPrefix_neverMatches() {
+        assertNull(PrefixTrie.of(new Prefix("")).match("anything", 0));
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+
+    private RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_filePath_returnsRunCommandStoppingOnError() {
+        assertParseSuccess(parser, " nightly schedule.txt ", new RunCommand(Path.of("nightly schedule.txt"), true));
+    }
+
+    @Test
+    public void parse_continue_returnsRunCommandContinuingOnError() {
+        assertParseSuccess(parser, " continue  nightly.txt", new RunCommand(Path.of("nightly.txt"), false));
+    }
+
+    @Test
+    public void parse_missingFilePath_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "  ", expectedMessage);
+        assertParseFailure(parser, " continue ", expectedMessage);
+    }
+}
@@ -56,6 +56,20 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void getModificationCount_onlyIncreasesOnSuccessfulChanges() {
+        assertEquals(0, addressBook.getModificationCount());
+        addressBook.addPerson(ALICE);
+        assertEquals(1, addressBook.getModificationCount());
+
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPerson(ALICE));
+        addressBook.hasPerson(ALICE);
+        assertEquals(1, addressBook.getModificationCount());
+
+        addressBook.removePerson(ALICE);
+        assertEquals(2, addressBook.getModificationCount());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -85,6 +99,23 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void restoreSnapshot_changedPersons_recordsDifferenceInChangeLog() {
+        AddressBook addressBook = getTypicalAddressBook();
+        PersonChangeLog.Change saved = addressBook.getChangeLog().getLatest();
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        PersonChangeLog.Change edited = addressBook.getChangeLog().getLatest();
+
+        addressBook.restoreSnapshot(getTypicalAddressBook().getSnapshot());
+
+        List<PersonChangeLog.Change> changes = addressBook.getChangeLog().getChangesAfter(saved).get();
+        assertEquals(2, changes.size());
+        assertEquals(List.of(editedAlice), changes.get(1).getRemovedPersons());
+        assertEquals(List.of(ALICE), changes.get(1).getAddedPersons());
+        assertEquals(1, addressBook.getChangeLog().getChangesAfter(edited).get().size());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
@@ -105,6 +136,11 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public long getModificationCount() {
+            return 0;
+        }
     }
 
 }
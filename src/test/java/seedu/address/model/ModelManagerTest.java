@@ -7,16 +7,20 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +97,78 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_indexedPredicate_testsOnlyCandidates() {
+        AddressBookBuilder addressBookBuilder = new AddressBookBuilder().withPerson(ALICE);
+        for (int i = 0; i < 100; i++) {
+            addressBookBuilder.withPerson(new PersonBuilder().withName("Patient " + i)
+                    .withPhone(String.valueOf(80000000 + i)).build());
+        }
+        modelManager = new ModelManager(addressBookBuilder.build(), new UserPrefs());
+        CountingNamePredicate predicate = new CountingNamePredicate("pauline");
+
+        modelManager.updateFilteredPersonList(predicate);
+
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+        assertEquals(1, predicate.testCount);
+    }
+
+    @Test
+    public void updateFilteredPersonList_indexedPredicate_matchesInListOrder() {
+        AddressBookBuilder addressBookBuilder = new AddressBookBuilder();
+        for (int i = 0; i < 10; i++) {
+            addressBookBuilder.withPerson(new PersonBuilder().withName("Patient " + i)
+                    .withPhone(String.valueOf(80000000 + i)).build());
+        }
+        modelManager = new ModelManager(addressBookBuilder.build(), new UserPrefs());
+
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("patient")));
+
+        assertEquals(modelManager.getAddressBook().getPersonList(), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_addressBookChanges_keepsFilteredPersonsUpToDate() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                new UserPrefs());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("meier", "kurz")));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        // a person edited to match is shown, in list order
+        modelManager.setPerson(ALICE, CARL);
+        assertEquals(List.of(BENSON, CARL), modelManager.getFilteredPersonList());
+
+        // a person edited to no longer match is hidden
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(List.of(CARL), modelManager.getFilteredPersonList());
+
+        // a deleted person is hidden
+        modelManager.deletePerson(CARL);
+        assertEquals(List.of(), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_editMovesPerson_testsOnlyEditedPerson() {
+        AddressBookBuilder addressBookBuilder = new AddressBookBuilder();
+        for (int i = 0; i < 10; i++) {
+            addressBookBuilder.withPerson(new PersonBuilder().withName("Patient " + i)
+                    .withPhone(String.valueOf(80000000 + i)).withAppointmentDate("2025-01-1" + i).build());
+        }
+        modelManager = new ModelManager(addressBookBuilder.build(), new UserPrefs());
+        CountingNamePredicate predicate = new CountingNamePredicate("patient");
+        modelManager.updateFilteredPersonList(predicate);
+        Person target = modelManager.getFilteredPersonList().get(2);
+        Person editedPerson = new PersonBuilder(target).withAppointmentDate("2025-02-01").build();
+        predicate.testCount = 0;
+
+        modelManager.setPerson(target, editedPerson);
+
+        assertEquals(modelManager.getAddressBook().getPersonList(), modelManager.getFilteredPersonList());
+        assertEquals(editedPerson, modelManager.getFilteredPersonList().get(9));
+        assertEquals(1, predicate.testCount);
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -143,4 +219,20 @@ public class ModelManagerTest {
         assertFalse(modelManager.isClearPending(), "Pending clear should be false after clearPendingClear");
     }
 
+    /**
+     * A name predicate that counts the persons it tests.
+     */
+    private static class CountingNamePredicate extends NameContainsKeywordsPredicate {
+        private int testCount = 0;
+
+        CountingNamePredicate(String keyword) {
+            super(List.of(keyword));
+        }
+
+        @Override
+        public boolean test(Person person) {
+            testCount++;
+            return super.test(person);
+        }
+    }
 }
@@ -0,0 +1,49 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonChangeLogTest {
+
+    @Test
+    public void getChangesAfter_changeInLog_returnsLaterChanges() {
+        PersonChangeLog log = PersonChangeLog.start();
+        PersonChangeLog.Change start = log.getLatest();
+        log = log.record(List.of(), List.of(ALICE));
+        log = log.record(List.of(ALICE), List.of(BENSON));
+
+        List<PersonChangeLog.Change> changes = log.getChangesAfter(start).get();
+        assertEquals(2, changes.size());
+        assertEquals(List.of(ALICE), changes.get(0).getAddedPersons());
+        assertEquals(List.of(ALICE), changes.get(1).getRemovedPersons());
+        assertEquals(List.of(BENSON), changes.get(1).getAddedPersons());
+        assertEquals(List.of(), log.getChangesAfter(log.getLatest()).get());
+    }
+
+    @Test
+    public void getChangesAfter_changeOfAnotherLog_returnsEmpty() {
+        PersonChangeLog log = PersonChangeLog.start();
+        PersonChangeLog fork = log.record(List.of(), List.of(BENSON));
+        log = log.record(List.of(), List.of(ALICE));
+
+        assertFalse(log.getChangesAfter(fork.getLatest()).isPresent());
+        assertFalse(log.getChangesAfter(PersonChangeLog.start().getLatest()).isPresent());
+    }
+
+    @Test
+    public void getChangesAfter_droppedChange_returnsEmpty() {
+        PersonChangeLog log = PersonChangeLog.start();
+        PersonChangeLog.Change start = log.getLatest();
+        for (int i = 0; i < PersonChangeLog.MAX_CHANGES; i++) {
+            log = log.record(List.of(), List.of(ALICE));
+        }
+
+        assertFalse(log.getChangesAfter(start).isPresent());
+    }
+}
@@ -41,6 +41,37 @@ public class AppointmentDateTest {
 
         // valid date with time
         assertTrue(AppointmentDate.isValidAppointmentDate("2025-03-23 14:00"));
+
+        // dates and times that do not exist
+        assertFalse(AppointmentDate.isValidAppointmentDate("2025-02-29"));
+        assertFalse(AppointmentDate.isValidAppointmentDate("2025-04-31"));
+        assertFalse(AppointmentDate.isValidAppointmentDate("2025-00-10"));
+        assertFalse(AppointmentDate.isValidAppointmentDate("2025-03-00"));
+        assertFalse(AppointmentDate.isValidAppointmentDate("2025-03-23 24:00"));
+        assertFalse(AppointmentDate.isValidAppointmentDate("2025-03-23 14:60"));
+        assertTrue(AppointmentDate.isValidAppointmentDate("2024-02-29 23:59"));
+        assertTrue(AppointmentDate.isValidAppointmentDate("2000-02-29"));
+        assertFalse(AppointmentDate.isValidAppointmentDate("1900-02-29"));
+    }
+
+    @Test
+    public void isValidFormatAppointmentDate() {
+        assertTrue(AppointmentDate.isValidFormatAppointmentDate(""));
+        assertTrue(AppointmentDate.isValidFormatAppointmentDate("2025-03-23"));
+        assertTrue(AppointmentDate.isValidFormatAppointmentDate("2025-99-99 99:99"));
+        assertFalse(AppointmentDate.isValidFormatAppointmentDate("2025-03-23 "));
+        assertFalse(AppointmentDate.isValidFormatAppointmentDate("2025-03-23\n"));
+        assertFalse(AppointmentDate.isValidFormatAppointmentDate("2025-03-2a"));
+        assertFalse(AppointmentDate.isValidFormatAppointmentDate("2025-03-23 14-00"));
+        assertFalse(AppointmentDate.isValidFormatAppointmentDate("\u0662025-03-23"));
+    }
+
+    @Test
+    public void getKey_sameAsParsedDateTime() {
+        for (String value : new String[] {"2025-03-23", "2025-03-23 14:05", "0000-01-01 00:00", "1969-12-31 23:59"}) {
+            LocalDateTime dateTime = AppointmentDate.parseToLocalDateTime(value);
+            assertEquals(AppointmentDate.toKey(dateTime), new AppointmentDate(value).getKey());
+        }
     }
 
     @Test
@@ -133,4 +164,19 @@ public class AppointmentDateTest {
         assertThrows(Exception.class, () -> AppointmentDate.parseToLocalDateTime(input));
     }
 
+    @Test
+    public void getKey_matchesParsedDateTime() {
+        assertEquals(AppointmentDate.toKey(LocalDateTime.of(2025, 4, 1, 13, 45)),
+                new AppointmentDate("2025-04-01 13:45").getKey());
+        assertEquals(AppointmentDate.toKey(LocalDateTime.of(2025, 4, 1, 0, 0)),
+                new AppointmentDate("2025-04-01").getKey());
+        assertEquals(AppointmentDate.NO_DATE_KEY, new AppointmentDate("").getKey());
+    }
+
+    @Test
+    public void hasTime() {
+        assertTrue(new AppointmentDate("2025-04-01 00:00").hasTime());
+        assertFalse(new AppointmentDate("2025-04-01").hasTime());
+        assertFalse(new AppointmentDate("").hasTime());
+    }
 }
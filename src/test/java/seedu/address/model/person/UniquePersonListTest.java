@@ -7,14 +7,20 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonLimitReachedException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -128,6 +134,29 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void getListOrder_manyInsertionsBetweenTwoPersons_ordersByPosition() {
+        uniquePersonList.add(new PersonBuilder().withName("First").withPhone("800").withAppointmentDate("2025-01-01")
+                .build());
+        uniquePersonList.add(new PersonBuilder().withName("Last").withPhone("801").withAppointmentDate("2025-01-03")
+                .build());
+        // Each person is inserted before "Last", halving the rank gap until the list has to be ranked again
+        for (int i = 0; i < 40; i++) {
+            uniquePersonList.add(new PersonBuilder().withName("Middle " + i).withPhone(String.valueOf(900 + i))
+                    .withAppointmentDate("2025-01-02").build());
+        }
+        uniquePersonList.remove(uniquePersonList.asUnmodifiableObservableList().get(20));
+
+        List<Person> persons = uniquePersonList.asUnmodifiableObservableList();
+        for (int i = 1; i < persons.size(); i++) {
+            assertTrue(uniquePersonList.getListOrder().compare(persons.get(i - 1), persons.get(i)) < 0);
+        }
+        List<Person> shuffled = new ArrayList<>(persons);
+        Collections.shuffle(shuffled);
+        shuffled.sort(uniquePersonList.getListOrder());
+        assertEquals(persons, shuffled);
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -177,6 +206,7 @@ public class UniquePersonListTest {
     @Test
     public void add_moreThanMaxLimit_throwsPersonLimitReachedException() {
         UniquePersonList list = new UniquePersonList();
+        list.setPersonLimit(30);
         for (int i = 0; i < 30; i++) {
             Person person = new PersonBuilder()
                     .withName("Person " + i)
@@ -201,4 +231,258 @@ public class UniquePersonListTest {
         assertThrows(PersonLimitReachedException.class, () -> list.add(overflow));
     }
 
+    @Test
+    public void add_noPersonLimit_allowsManyPersons() {
+        UniquePersonList list = new UniquePersonList();
+        for (int i = 0; i < 100; i++) {
+            list.add(new PersonBuilder().withName("Person " + i).withPhone("9000" + String.format("%04d", i)).build());
+        }
+        assertEquals(100, list.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void remove_afterEditingIdentity_updatesIndex() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(editedAlice));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(ALICE));
+        uniquePersonList.remove(editedAlice);
+        assertFalse(uniquePersonList.contains(editedAlice));
+    }
+
+    @Test
+    public void add_persons_keepsListSortedByAppointment() {
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+        Collections.reverse(persons);
+        persons.forEach(uniquePersonList::add);
+
+        persons.sort(Person.COMPARE_BY_APPOINTMENT);
+        assertEquals(persons, uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_persons_sameOrderAsAddingOneByOne() {
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+        Collections.reverse(persons);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        persons.forEach(expectedUniquePersonList::add);
+
+        persons.subList(0, 3).forEach(uniquePersonList::add);
+        uniquePersonList.addAll(persons.subList(3, persons.size()));
+
+        assertEquals(expectedUniquePersonList.asUnmodifiableObservableList(),
+                uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(persons.stream().allMatch(uniquePersonList::contains));
+    }
+
+    @Test
+    public void addAll_duplicatePerson_throwsDuplicatePersonExceptionAndAddsNothing() {
+        uniquePersonList.add(ALICE);
+        Person aliceCopy = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(BOB, aliceCopy)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(BOB, BOB)));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void addAll_moreThanMaxLimit_throwsPersonLimitReachedExceptionAndAddsNothing() {
+        uniquePersonList.setPersonLimit(2);
+        uniquePersonList.add(ALICE);
+
+        assertThrows(PersonLimitReachedException.class, () -> uniquePersonList.addAll(List.of(BOB, AMY)));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_changedAppointment_movesOnlyEditedPerson() {
+        getTypicalPersons().forEach(uniquePersonList::add);
+        List<Person> expected = new ArrayList<>(uniquePersonList.asUnmodifiableObservableList());
+        Person target = expected.get(0);
+        Person editedPerson = new PersonBuilder(target).withAppointmentDate("2025-10-10").build();
+
+        uniquePersonList.setPerson(target, editedPerson);
+
+        expected.set(0, editedPerson);
+        expected.sort(Person.COMPARE_BY_APPOINTMENT);
+        assertEquals(expected, uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_changedAppointment_movesPersonInOneChange() {
+        getTypicalPersons().forEach(uniquePersonList::add);
+        List<Person> original = List.copyOf(uniquePersonList.asUnmodifiableObservableList());
+        List<List<Person>> removed = new ArrayList<>();
+        List<List<Person>> added = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                removed.add(List.copyOf(change.getRemoved()));
+                added.add(List.copyOf(change.getAddedSubList()));
+            }
+        });
+
+        // Moved from the first position to the last
+        Person target = original.get(0);
+        Person editedPerson = new PersonBuilder(target).withAppointmentDate("2099-01-01").build();
+        uniquePersonList.setPerson(target, editedPerson);
+
+        List<Person> expected = new ArrayList<>(original.subList(1, original.size()));
+        expected.add(editedPerson);
+        assertEquals(expected, uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(List.of(original), removed);
+        assertEquals(List.of(expected), added);
+
+        // Moved back to the first position
+        uniquePersonList.setPerson(editedPerson, target);
+
+        assertEquals(original, uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(List.of(original, expected), removed);
+        assertEquals(List.of(expected, original), added);
+        assertEquals(original, uniquePersonList.getSnapshot().toList());
+        List<Person> reversed = new ArrayList<>(original);
+        Collections.reverse(reversed);
+        reversed.sort(uniquePersonList.getListOrder());
+        assertEquals(original, reversed);
+    }
+
+    @Test
+    public void setPersons_unorderedList_sortsByAppointment() {
+        Person early = new PersonBuilder(ALICE).withAppointmentDate("2025-01-01").build();
+        Person late = new PersonBuilder(BOB).withAppointmentDate("2025-06-01").build();
+        Person none = new PersonBuilder(AMY).withAppointmentDate("").build();
+
+        uniquePersonList.setPersons(List.of(none, late, early));
+
+        assertEquals(List.of(early, late, none), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(List.of(early, late, none), uniquePersonList.getSnapshot().toList());
+    }
+
+    @Test
+    public void setPersons_listWithDuplicatePersons_reportsEveryDuplicatePair() {
+        Person aliceCopy = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Person bobCopy = new PersonBuilder(BOB).withAddress(VALID_ADDRESS_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, aliceCopy, bobCopy, ALICE);
+
+        String expectedMessage = "Operation would result in duplicate persons: "
+                + ALICE.getName() + " (" + ALICE.getPhone() + ") at positions 1 and 3; "
+                + BOB.getName() + " (" + BOB.getPhone() + ") at positions 2 and 4; "
+                + ALICE.getName() + " (" + ALICE.getPhone() + ") at positions 1 and 5";
+        assertThrows(DuplicatePersonException.class, expectedMessage, ()
+                -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void setPersonsOfTargets_changedAppointments_stableSortOfEditedList() {
+        getTypicalPersons().forEach(uniquePersonList::add);
+        List<Person> expected = new ArrayList<>(uniquePersonList.asUnmodifiableObservableList());
+        List<Person> targets = List.copyOf(expected.subList(0, 4));
+        List<Person> editedPersons = new ArrayList<>();
+        for (int i = 0; i < targets.size(); i++) {
+            Person editedPerson = new PersonBuilder(targets.get(i)).withAppointmentDate("2025-05-01").build();
+            editedPersons.add(editedPerson);
+            expected.set(i, editedPerson);
+        }
+        expected.sort(Person.COMPARE_BY_APPOINTMENT);
+        int[] changeCount = new int[1];
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount[0]++);
+
+        uniquePersonList.setPersons(targets, editedPersons);
+
+        assertEquals(expected, uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+        assertEquals(uniquePersonList.asUnmodifiableObservableList(), uniquePersonList.getSnapshot().toList());
+        assertTrue(editedPersons.stream().allMatch(uniquePersonList::contains));
+    }
+
+    @Test
+    public void setPersonsOfTargets_swappedIdentities_success() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person aliceAsBob = new PersonBuilder(ALICE).withName(BOB.getName().fullName)
+                .withPhone(BOB.getPhone().value).build();
+        Person bobAsAlice = new PersonBuilder(BOB).withName(ALICE.getName().fullName)
+                .withPhone(ALICE.getPhone().value).build();
+
+        uniquePersonList.setPersons(List.of(ALICE, BOB), List.of(aliceAsBob, bobAsAlice));
+
+        assertEquals(Optional.of(aliceAsBob), uniquePersonList.find(BOB));
+        assertEquals(Optional.of(bobAsAlice), uniquePersonList.find(ALICE));
+    }
+
+    @Test
+    public void setPersonsOfTargets_invalidChange_throwsAndChangesNothing() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        List<Person> expected = List.copyOf(uniquePersonList.asUnmodifiableObservableList());
+        Person editedAlice = new PersonBuilder(ALICE).withAppointmentDate("2025-05-01").build();
+        Person aliceAsBob = new PersonBuilder(ALICE).withName(BOB.getName().fullName)
+                .withPhone(BOB.getPhone().value).build();
+
+        // target not in list
+        assertThrows(PersonNotFoundException.class, () ->
+                uniquePersonList.setPersons(List.of(ALICE, AMY), List.of(editedAlice, AMY)));
+        // edited person clashes with a person that is not replaced
+        assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.setPersons(List.of(ALICE), List.of(aliceAsBob)));
+        // edited persons clash with each other
+        assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.setPersons(List.of(ALICE, BOB), List.of(editedAlice, editedAlice)));
+        // same target given twice
+        assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.setPersons(List.of(ALICE, ALICE), List.of(editedAlice, BOB)));
+        assertThrows(IllegalArgumentException.class, () ->
+                uniquePersonList.setPersons(List.of(ALICE), List.of()));
+
+        assertEquals(expected, uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(ALICE), uniquePersonList.find(ALICE));
+        assertEquals(Set.of(ALICE), uniquePersonList.findNameCandidates("lic").get());
+    }
+
+    @Test
+    public void removeAll_existingPersons_removesPersonsInOneChange() {
+        getTypicalPersons().forEach(uniquePersonList::add);
+        List<Person> expected = new ArrayList<>(uniquePersonList.asUnmodifiableObservableList());
+        List<Person> toRemove = List.of(expected.get(1), expected.get(3), expected.get(4));
+        int[] changeCount = new int[1];
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount[0]++);
+
+        uniquePersonList.removeAll(toRemove);
+
+        expected.removeAll(toRemove);
+        assertEquals(expected, uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+        assertEquals(expected, uniquePersonList.getSnapshot().toList());
+        assertTrue(toRemove.stream().noneMatch(uniquePersonList::contains));
+    }
+
+    @Test
+    public void removeAll_personDoesNotExist_throwsPersonNotFoundExceptionAndRemovesNothing() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(List.of(ALICE, BOB)));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void findNameCandidates_afterEditAndRemove_reflectsCurrentNames() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(Set.of(ALICE), uniquePersonList.findNameCandidates("lic").get());
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Tan").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Set.of(editedAlice), uniquePersonList.findNameCandidates("alici").get());
+        assertTrue(uniquePersonList.findNameCandidates("pauline").get().isEmpty());
+
+        uniquePersonList.remove(editedAlice);
+        assertTrue(uniquePersonList.findNameCandidates("lic").get().isEmpty());
+
+        // keywords shorter than a trigram cannot be looked up
+        assertFalse(uniquePersonList.findNameCandidates("bo").isPresent());
+    }
 }
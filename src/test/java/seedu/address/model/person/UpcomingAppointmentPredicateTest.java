@@ -0,0 +1,32 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class UpcomingAppointmentPredicateTest {
+
+    private final UpcomingAppointmentPredicate predicate =
+            new UpcomingAppointmentPredicate(LocalDateTime.of(2025, 4, 1, 12, 30, 15));
+
+    @Test
+    public void test_appointmentAfterReferenceTime_returnsTrue() {
+        assertTrue(predicate.test(new PersonBuilder().withAppointmentDate("2025-04-01 12:31").build()));
+        assertTrue(predicate.test(new PersonBuilder().withAppointmentDate("2025-04-02 00:00").build()));
+
+        // date without time counts until the end of that day
+        assertTrue(predicate.test(new PersonBuilder().withAppointmentDate("2025-04-01").build()));
+    }
+
+    @Test
+    public void test_appointmentNotAfterReferenceTime_returnsFalse() {
+        assertFalse(predicate.test(new PersonBuilder().withAppointmentDate("2025-04-01 12:30").build()));
+        assertFalse(predicate.test(new PersonBuilder().withAppointmentDate("2025-03-31").build()));
+        assertFalse(predicate.test(new PersonBuilder().withAppointmentDate("").build()));
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagDictionaryTest {
+
+    // The dictionary is shared by every test, so each test uses tag names that no other test uses
+
+    @Test
+    public void findIdsIgnoreCase_namesDifferingInCase_returnsEveryId() {
+        int lowerId = TagDictionary.idOf(new Tag("dictionarytestgout", Tag.TagType.CONDITION));
+        int mixedId = TagDictionary.idOf(new Tag("DictionaryTestGout", Tag.TagType.CONDITION));
+        TagDictionary.idOf(new Tag("dictionarytestgout", Tag.TagType.DETAIL));
+
+        assertEquals(List.of(lowerId, mixedId),
+                TagDictionary.findIdsIgnoreCase("DICTIONARYTESTGOUT", Tag.TagType.CONDITION));
+        assertEquals(List.of(), TagDictionary.findIdsIgnoreCase("dictionarytestunseen", Tag.TagType.CONDITION));
+    }
+
+    @Test
+    public void idOf_tagOfRemovedPerson_keepsIdForLaterAddressBooks() {
+        Person person = new PersonBuilder().withConditions("dictionarytestasthma").build();
+        Tag tag = new Tag("dictionarytestasthma", Tag.TagType.CONDITION);
+        int id = TagDictionary.idOf(tag);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(person);
+        addressBook.removePerson(person);
+
+        // The id is global, so another address book sees the same tag under the same id
+        assertEquals(id, TagDictionary.idOf(new Tag("dictionarytestasthma", Tag.TagType.CONDITION)));
+        assertSame(TagDictionary.get(id), TagDictionary.intern("dictionarytestasthma", Tag.TagType.CONDITION));
+        assertTrue(person.getConditionTags().contains(tag));
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    private final Tag dementia = new Tag("dementia", Tag.TagType.CONDITION);
+    private final Tag diabetes = new Tag("diabetes", Tag.TagType.CONDITION);
+    private final Tag dementiaDetail = new Tag("dementia", Tag.TagType.DETAIL);
+
+    @Test
+    public void of_collectionWithRepeatedTags_keepsDistinctTags() {
+        TagSet tagSet = TagSet.of(List.of(dementia, diabetes, new Tag("dementia", Tag.TagType.CONDITION)));
+        assertEquals(2, tagSet.size());
+        assertTrue(tagSet.contains(dementia));
+        assertTrue(tagSet.contains(diabetes));
+        assertFalse(tagSet.contains(dementiaDetail));
+    }
+
+    @Test
+    public void equals_sameTagsAsHashSet_returnsTrue() {
+        Set<Tag> hashSet = new HashSet<>(Arrays.asList(dementia, dementiaDetail));
+        TagSet tagSet = TagSet.of(hashSet);
+        assertEquals(hashSet, tagSet);
+        assertEquals(tagSet, hashSet);
+        assertEquals(hashSet.hashCode(), tagSet.hashCode());
+        assertEquals(tagSet, TagSet.of(List.of(dementiaDetail, dementia)));
+    }
+
+    @Test
+    public void iterator_returnsInternedTags() {
+        Tag interned = TagDictionary.intern("dementia", Tag.TagType.CONDITION);
+        assertSame(interned, TagSet.of(List.of(dementia)).iterator().next());
+    }
+
+    @Test
+    public void add_anyTag_throwsUnsupportedOperationException() {
+        TagSet tagSet = TagSet.of(List.of(dementia));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.add(diabetes));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(diabetes));
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.AppointmentDate;
+import seedu.address.model.person.Gender;
+import seedu.address.model.person.Medicine;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+public class FieldValidatorTest {
+
+    // Characters on either side of every character class used by the validators
+    private static final String ALPHABET = "aZm0F9e -'/@.:_\t\n\r\u000b\f\u0085\u2028\u00e9\u0662lM";
+
+    @Test
+    public void isDigits() {
+        assertTrue(FieldValidator.isDigits("123", 3, 15));
+        assertFalse(FieldValidator.isDigits("12", 3, 15));
+        assertFalse(FieldValidator.isDigits("1234567890123456", 3, 15));
+        assertFalse(FieldValidator.isDigits("12a", 3, 15));
+        assertFalse(FieldValidator.isDigits("\u0661\u0662\u0663", 3, 15)); // non-ASCII digits
+    }
+
+    @Test
+    public void isNonBlankLine() {
+        assertTrue(FieldValidator.isNonBlankLine("a b"));
+        assertFalse(FieldValidator.isNonBlankLine(""));
+        assertFalse(FieldValidator.isNonBlankLine(" a"));
+        assertFalse(FieldValidator.isNonBlankLine("a\nb"));
+        assertFalse(FieldValidator.isNonBlankLine("a\u2028"));
+    }
+
+    @Test
+    public void equalsIgnoreAsciiCase() {
+        assertTrue(FieldValidator.equalsIgnoreAsciiCase("MaLe", "male"));
+        assertFalse(FieldValidator.equalsIgnoreAsciiCase("mal", "male"));
+        assertFalse(FieldValidator.equalsIgnoreAsciiCase("fem\u0130le", "female"));
+    }
+
+    @Test
+    public void validators_sameAsValidationRegex() {
+        Random random = new Random(2025);
+        for (int i = 0; i < 20_000; i++) {
+            String test = randomString(random);
+            assertSameAsRegex(Name::isValidName, Name.VALIDATION_REGEX, test);
+            assertSameAsRegex(Phone::isValidPhone, Phone.VALIDATION_REGEX, test);
+            assertSameAsRegex(Address::isValidAddress, Address.VALIDATION_REGEX, test);
+            assertSameAsRegex(Medicine::isValidMedicine, Medicine.VALIDATION_REGEX, test);
+            assertSameAsRegex(Gender::isValidGender, Gender.VALIDATION_REGEX, test);
+            assertSameAsRegex(Tag::isValidTagName, Tag.VALIDATION_REGEX, test);
+            if (!test.isEmpty()) {
+                assertSameAsRegex(AppointmentDate::isValidFormatAppointmentDate, AppointmentDate.VALIDATION_REGEX,
+                        test);
+            }
+        }
+    }
+
+    @Test
+    public void validators_sameAsValidationRegexOnShapedInput() {
+        String[] samples = {"male", "FEMALE", "m", "f", "x", "9", "123", "123456789012345", "1234567890123456",
+            "2025-03-23", "2025-03-23 14:00", "2025-3-23", "2025-03-23 1:00", "a'b-c", "Alice Pauline",
+            "a".repeat(50), "a".repeat(51), "John@Doe.", "-john", "a\n"};
+        for (String test : samples) {
+            assertSameAsRegex(Name::isValidName, Name.VALIDATION_REGEX, test);
+            assertSameAsRegex(Phone::isValidPhone, Phone.VALIDATION_REGEX, test);
+            assertSameAsRegex(Gender::isValidGender, Gender.VALIDATION_REGEX, test);
+            assertSameAsRegex(Tag::isValidTagName, Tag.VALIDATION_REGEX, test);
+            assertSameAsRegex(AppointmentDate::isValidFormatAppointmentDate, AppointmentDate.VALIDATION_REGEX, test);
+        }
+    }
+
+    private static String randomString(Random random) {
+        // Mostly short strings, so that the exact lengths the validators accept come up often
+        int length = random.nextInt(4) == 0 ? random.nextInt(60) : random.nextInt(8);
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return builder.toString();
+    }
+
+    private static void assertSameAsRegex(Predicate<String> validator, String regex, String test) {
+        assertEquals(test.matches(regex), validator.test(test), "Mismatch on \"" + test + "\" for " + regex);
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Compares the time taken to save and load a large address book in each storage format.
+ * Run with {@code java seedu.address.storage.AddressBookStorageBenchmark [number of persons]}; it is not a test, as
+ * its timings depend on the machine it runs on.
+ */
+public class AddressBookStorageBenchmark {
+
+    private static final int DEFAULT_PERSON_COUNT = 20_000;
+    private static final int WARM_UP_RUNS = 5;
+    private static final int MEASURED_RUNS = 10;
+    private static final String[] MEDICINES = {"Paracetamol", "Ibuprofen", "Metformin", "Amlodipine", "Insulin"};
+    private static final String[] CONDITIONS = {"diabetes", "hypertension", "dementia", "arthritis"};
+
+    /**
+     * Saves and loads an address book of generated persons in the JSON and binary formats, and prints the median
+     * time of each.
+     */
+    public static void main(String[] args) throws IOException, DataLoadingException {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PERSON_COUNT;
+        AddressBook addressBook = createAddressBook(personCount);
+        Path folder = Files.createTempDirectory("storage-benchmark");
+
+        System.out.printf("%d persons, median of %d runs%n", personCount, MEASURED_RUNS);
+        run("JSON (pretty)", new JsonAddressBookStorage(folder.resolve("pretty.json"), Integer.MAX_VALUE),
+                addressBook);
+        run("JSON (compact)", new JsonAddressBookStorage(folder.resolve("compact.json"), -1), addressBook);
+        run("Binary", new BinaryAddressBookStorage(folder.resolve("addressbook.bin")), addressBook);
+    }
+
+    private static void run(String format, AddressBookStorage storage, AddressBook addressBook)
+            throws IOException, DataLoadingException {
+        long[] saveNanos = new long[MEASURED_RUNS];
+        long[] loadNanos = new long[MEASURED_RUNS];
+        for (int i = -WARM_UP_RUNS; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            storage.saveAddressBook(addressBook);
+            long saved = System.nanoTime();
+            storage.readAddressBook();
+            long loaded = System.nanoTime();
+            if (i >= 0) {
+                saveNanos[i] = saved - start;
+                loadNanos[i] = loaded - saved;
+            }
+        }
+
+        System.out.printf("%-15s size %,10d bytes  save %7.1f ms  load %7.1f ms%n", format,
+                Files.size(storage.getAddressBookFilePath()), median(saveNanos) / 1e6, median(loadNanos) / 1e6);
+    }
+
+    private static AddressBook createAddressBook(int personCount) {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < personCount; i++) {
+            addressBook.addPerson(new PersonBuilder()
+                    .withName("Patient " + i)
+                    .withPhone(String.valueOf(80000000 + i))
+                    .withAddress("Blk " + i % 500 + " Ang Mo Kio Ave " + i % 10 + ", #" + i % 20 + "-" + i % 100)
+                    .withGender(i % 2 == 0 ? "F" : "M")
+                    .withAppointmentDate(String.format("2025-%02d-%02d %02d:%02d", i % 12 + 1, i % 28 + 1,
+                            8 + i % 10, i % 4 * 15))
+                    .withMedicine(MEDICINES[i % MEDICINES.length])
+                    .withConditions(CONDITIONS[i % CONDITIONS.length])
+                    .withDetails("ward" + i % 8)
+                    .build());
+        }
+        return addressBook;
+    }
+
+    private static double median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
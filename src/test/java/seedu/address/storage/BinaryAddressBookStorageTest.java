@@ -0,0 +1,202 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+    private static final Path TYPICAL_PERSONS_JSON_FILE = Paths.get("src", "test", "data",
+            "JsonSerializableAddressBookTest", "typicalPersonsAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.bin");
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertTrue(BinaryAddressBookStorage.isBinarySnapshot(filePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // Appointments without a date, before 1970 and with a time, and non-ASCII text
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.addPerson(new PersonBuilder().withName("Zoe").withPhone("81234567").withAppointmentDate("")
+                .withAddress("\u6771\u4eac 1-2-3").build());
+        original.addPerson(new PersonBuilder().withName("Yuri").withPhone("81234568")
+                .withAppointmentDate("1969-12-31 23:59").build());
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_smallerThanJson() throws Exception {
+        Path binaryFile = testFolder.resolve("TempAddressBook.bin");
+        Path jsonFile = testFolder.resolve("TempAddressBook.json");
+        new BinaryAddressBookStorage(binaryFile).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(jsonFile, -1).saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(Files.size(binaryFile) < Files.size(jsonFile) / 2);
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_importsJson() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Files.copy(TYPICAL_PERSONS_JSON_FILE, filePath);
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+
+        // The next save converts the file to the binary format
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertTrue(BinaryAddressBookStorage.isBinarySnapshot(filePath));
+    }
+
+    @Test
+    public void readAddressBook_jsonStorageWithBinaryFile_readsBinary() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_laterFormatVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[4] = (byte) (BinaryAddressBookStorage.FORMAT_VERSION + 1);
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_corruptHeaderCounts_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        byte[] maxVarInt = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        new DataOutputStream(header).writeInt(BinaryAddressBookStorage.MAGIC);
+        header.write(BinaryAddressBookStorage.FORMAT_VERSION);
+
+        // A string table of Integer.MAX_VALUE strings
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(header.toByteArray());
+        bytes.write(maxVarInt);
+        Files.write(filePath, bytes.toByteArray());
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+
+        // A string of Integer.MAX_VALUE bytes
+        bytes.reset();
+        bytes.write(header.toByteArray());
+        bytes.write(1);
+        bytes.write(maxVarInt);
+        Files.write(filePath, bytes.toByteArray());
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+
+        // Integer.MAX_VALUE persons
+        bytes.reset();
+        bytes.write(header.toByteArray());
+        bytes.write(0);
+        bytes.write(maxVarInt);
+        Files.write(filePath, bytes.toByteArray());
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_incompleteTemporaryFileLeftBehind_discardsTemporaryFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Path temporaryFile = FileUtil.getTemporaryFilePath(filePath);
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(temporaryFile, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        assertFalse(Files.exists(temporaryFile));
+    }
+
+    @Test
+    public void readAddressBook_unknownTemporaryFileLeftBehind_discardsTemporaryFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Path temporaryFile = FileUtil.getTemporaryFilePath(filePath);
+        Files.write(temporaryFile, new byte[] {1, 2});
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        assertFalse(Files.exists(temporaryFile));
+    }
+
+    @Test
+    public void readAddressBook_jsonTemporaryFileNextToBinaryFile_recoversJson() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(new AddressBook());
+        Path temporaryFile = FileUtil.getTemporaryFilePath(filePath);
+        Files.copy(TYPICAL_PERSONS_JSON_FILE, temporaryFile);
+
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertFalse(Files.exists(temporaryFile));
+        assertFalse(BinaryAddressBookStorage.isBinarySnapshot(filePath));
+    }
+
+    @Test
+    public void readAddressBook_binaryTemporaryFileNextToJsonFile_recoversBinary() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(new AddressBook());
+        Path temporaryFile = FileUtil.getTemporaryFilePath(filePath);
+        new BinaryAddressBookStorage(temporaryFile).saveAddressBook(getTypicalAddressBook());
+
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertFalse(Files.exists(temporaryFile));
+        assertTrue(BinaryAddressBookStorage.isBinarySnapshot(filePath));
+    }
+}
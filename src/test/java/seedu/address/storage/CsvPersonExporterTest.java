@@ -0,0 +1,47 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.CsvPersonParser;
+import seedu.address.logic.parser.CsvPersonParser.ParsedCsv;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class CsvPersonExporterTest {
+
+    @Test
+    public void write_typicalPersons_importedBackUnchanged() throws Exception {
+        List<Person> persons = getTypicalPersons();
+        StringWriter writer = new StringWriter();
+
+        assertEquals(persons.size(), CsvPersonExporter.write(persons, writer));
+
+        ParsedCsv parsed = new CsvPersonParser().parse(new StringReader(writer.toString()));
+        assertTrue(parsed.getErrors().isEmpty());
+        assertEquals(persons, parsed.getPersons());
+        assertEquals(List.copyOf(CsvPersonParser.COLUMNS.keySet()), CsvPersonExporter.HEADER);
+    }
+
+    @Test
+    public void write_fieldsWithCommasAndQuotes_quotesThem() throws Exception {
+        Person person = new PersonBuilder().withName("Amy Bee").withPhone("11111111")
+                .withAddress("Block 312, \"Amy\" Street 1").withGender("female").withAppointmentDate("2025-10-10")
+                .withMedicine("").withConditions("diabetes", "high BP").build();
+        StringWriter writer = new StringWriter();
+
+        CsvPersonExporter.write(List.of(person), writer);
+
+        assertEquals(String.join(",", CsvPersonExporter.HEADER) + "\r\n"
+                + "Amy Bee,11111111,\"Block 312, \"\"Amy\"\" Street 1\",Female,2025-10-10,,diabetes;high BP,"
+                + PersonBuilder.DEFAULT_DETAIL + "\r\n",
+                writer.toString());
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringWriter;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class IcsPersonExporterTest {
+
+    private static final Instant TIMESTAMP = Instant.parse("2025-03-01T08:00:00Z");
+
+    @Test
+    public void write_persons_oneEventPerAppointment() throws Exception {
+        Person timed = new PersonBuilder().withName("Amy Bee").withPhone("11111111")
+                .withAddress("Block 312, Amy Street 1").withAppointmentDate("2025-04-10 09:30")
+                .withMedicine("Metformin").withConditions("diabetes").build();
+        Person allDay = new PersonBuilder().withName("Bob Choo").withPhone("22222222").withAddress("Bobby Street")
+                .withAppointmentDate("2025-12-31").withMedicine("").build();
+        Person noAppointment = new PersonBuilder().withName("Carl Kurz").withAppointmentDate("").build();
+        StringWriter writer = new StringWriter();
+
+        int count = IcsPersonExporter.write(List.of(timed, allDay, noAppointment), writer, TIMESTAMP);
+
+        String output = writer.toString();
+        assertEquals(2, count);
+        assertTrue(output.startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n"));
+        assertTrue(output.endsWith("END:VCALENDAR\r\n"));
+        assertTrue(output.contains("DTSTAMP:20250301T080000Z\r\n"
+                + "DTSTART:20250410T093000\r\n"
+                + "DURATION:" + IcsPersonExporter.APPOINTMENT_DURATION + "\r\n"
+                + "SUMMARY:Appointment: Amy Bee\r\n"
+                + "LOCATION:Block 312\\, Amy Street 1\r\n"
+                // the description is folded after 75 bytes
+                + "DESCRIPTION:Phone: 11111111\\nConditions: diabetes\\nMedicine: Metformin\\nDet\r\n"
+                + " ails: " + PersonBuilder.DEFAULT_DETAIL + "\r\n"));
+        assertTrue(output.contains("DTSTART;VALUE=DATE:20251231\r\n"
+                + "SUMMARY:Appointment: Bob Choo\r\n"));
+        assertFalse(output.contains("Carl Kurz"));
+    }
+
+    @Test
+    public void write_samePerson_sameUid() throws Exception {
+        Person person = new PersonBuilder().withAppointmentDate("2025-04-10").build();
+        Person rescheduled = new PersonBuilder(person).withAppointmentDate("2025-05-10").build();
+        StringWriter first = new StringWriter();
+        StringWriter second = new StringWriter();
+
+        IcsPersonExporter.write(List.of(person), first, TIMESTAMP);
+        IcsPersonExporter.write(List.of(rescheduled), second, TIMESTAMP);
+
+        assertEquals(getUidLine(first.toString()), getUidLine(second.toString()));
+    }
+
+    @Test
+    public void escape_specialCharacters_escaped() {
+        assertEquals("a\\\\b\\;c\\,d\\ne", IcsPersonExporter.escape("a\\b;c,d\r\ne"));
+    }
+
+    @Test
+    public void writeLine_longLine_foldedAt75Octets() throws Exception {
+        StringWriter writer = new StringWriter();
+        // Each of these characters is 3 bytes in UTF-8, so a 25-character line is exactly 75 bytes
+        IcsPersonExporter.writeLine(writer, "\u4e00".repeat(25) + "\u4e01");
+
+        assertEquals("\u4e00".repeat(25) + "\r\n \u4e01\r\n", writer.toString());
+    }
+
+    private static String getUidLine(String calendar) {
+        return calendar.lines().filter(line -> line.startsWith("UID:")).findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,172 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journal;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        journal = JournaledAddressBookStorage.getJournalPath(filePath);
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changes_appendedToJournalAndReplayed() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+        assertFalse(Files.exists(journal));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        Person editedBenson = new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build();
+        original.setPerson(BENSON, editedBenson);
+        storage.saveAddressBook(original);
+
+        // Only the journal is written: one line for the addition, one for the removal and two for the edit
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(4, Files.readAllLines(journal).size());
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_copyOfReadAddressBook_appendedToJournal() throws Exception {
+        new JournaledAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        String snapshot = Files.readString(filePath);
+
+        // The model works on a copy of the address book read, which carries over its change log
+        AddressBook copy = new AddressBook(storage.readAddressBook().get());
+        copy.addPerson(HOON);
+        storage.saveAddressBook(copy);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(1, Files.readAllLines(journal).size());
+        assertEquals(copy, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_otherAddressBook_writesSnapshot() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        AddressBook copy = new AddressBook(original);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // The copy shares the history of the original only up to the copy, so it is not journaled
+        copy.addPerson(IDA);
+        storage.saveAddressBook(copy);
+
+        assertFalse(Files.exists(journal));
+        assertEquals(copy, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_truncatedLastLine_ignoresLine() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Files.writeString(journal, "{\"operation\":\"ADD\",\"per", StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage reopenedStorage = new JournaledAddressBookStorage(filePath);
+        AddressBook reopened = new AddressBook(reopenedStorage.readAddressBook().get());
+        assertEquals(original, reopened);
+
+        // The incomplete line is cut off, so later changes are appended on a line of their own
+        reopened.addPerson(IDA);
+        reopenedStorage.saveAddressBook(reopened);
+        assertEquals(reopened, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_unreadableLineBeforeLastLine_throwsDataLoadingException() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Files.writeString(journal, "{\"operation\":\"ADD\",\"per\n", StandardOpenOption.APPEND);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compactedIntoSnapshot() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        storage.awaitCompaction();
+
+        assertFalse(Files.exists(journal));
+        assertFalse(Files.exists(JournaledAddressBookStorage.getCompactingJournalPath(filePath)));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // Changes after a compaction go to a new journal
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        storage.awaitCompaction();
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_interruptedCompaction_replaysBothJournals() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // The compacted snapshot was written, but its journal was not yet deleted
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        Files.move(journal, JournaledAddressBookStorage.getCompactingJournalPath(filePath));
+        original.removePerson(HOON);
+        Files.writeString(journal, Files.readString(JournaledAddressBookStorage.getCompactingJournalPath(filePath))
+                .replace("ADD", "REMOVE"), StandardCharsets.UTF_8);
+
+        AddressBook read = new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(original, read);
+        assertTrue(read.getPersonList().stream().noneMatch(HOON::isSamePerson));
+    }
+}
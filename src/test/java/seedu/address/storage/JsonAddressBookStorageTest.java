@@ -9,6 +9,7 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,6 +17,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -86,6 +89,60 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBook_completeTemporaryFileLeftBehind_recoversTemporaryFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original, filePath);
+
+        // A save that was interrupted after the new content was written, but before it was moved into place
+        original.addPerson(HOON);
+        Path temporaryFile = FileUtil.getTemporaryFilePath(filePath);
+        Files.copy(filePath, temporaryFile);
+        jsonAddressBookStorage.saveAddressBook(original, temporaryFile);
+
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        assertFalse(Files.exists(temporaryFile));
+    }
+
+    @Test
+    public void readAddressBook_incompleteTemporaryFileLeftBehind_discardsTemporaryFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original, filePath);
+
+        // A save that was interrupted part-way through writing the new content
+        Path temporaryFile = FileUtil.getTemporaryFilePath(filePath);
+        String content = Files.readString(filePath);
+        Files.writeString(temporaryFile, content.substring(0, content.length() / 2));
+
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        assertFalse(Files.exists(temporaryFile));
+    }
+
+    @Test
+    public void saveAddressBook_withinPrettyPrintLimit_matchesSerializedAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)), Files.readString(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_overPrettyPrintLimit_writesSingleLine() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, 1);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        assertEquals(JsonUtil.toCompactJsonString(new JsonSerializableAddressBook(original)),
+                Files.readString(filePath));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -8,6 +8,7 @@ import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
@@ -40,8 +41,27 @@ public class JsonSerializableAddressBookTest {
     public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
                 JsonSerializableAddressBook.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
-                dataFromFile::toModelType);
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON
+                + " Alice Pauline (94351253) at positions 1 and 2", dataFromFile::toModelType);
+    }
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        AddressBook addressBookFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
+                JsonSerializableAddressBook::read).get();
+        assertEquals(TypicalPersons.getTypicalAddressBook(), addressBookFromFile);
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> JsonUtil.readJsonFile(INVALID_PERSON_FILE,
+                JsonSerializableAddressBook::read));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
+                JsonSerializableAddressBook::read));
     }
 
 }
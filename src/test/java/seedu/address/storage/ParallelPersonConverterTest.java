@@ -0,0 +1,107 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelPersonConverterTest {
+
+    private static final int PERSON_COUNT = 5000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convert_emptyList_returnsEmptyList() throws Exception {
+        assertEquals(List.of(), ParallelPersonConverter.convert(List.of(), 0));
+    }
+
+    @Test
+    public void convert_validPersons_keepsOrder() throws Exception {
+        List<Person> persons = createPersons();
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        for (Person person : persons) {
+            adaptedPersons.add(new JsonAdaptedPerson(person));
+        }
+
+        assertEquals(persons, ParallelPersonConverter.convert(adaptedPersons, 0));
+    }
+
+    @Test
+    public void convert_severalInvalidPersons_reportsFirstInvalidPerson() {
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        for (Person person : createPersons()) {
+            adaptedPersons.add(new JsonAdaptedPerson(person));
+        }
+        adaptedPersons.set(4000, new JsonAdaptedPerson("R$chel", "91234567", "Clementi", "F", "", "Aspirin",
+                List.of(), List.of()));
+        adaptedPersons.set(1234, new JsonAdaptedPerson("Rachel", "+651234", "Clementi", "F", "", "Aspirin",
+                List.of(), List.of()));
+
+        for (int run = 0; run < 5; run++) {
+            assertThrows(IllegalValueException.class, "Person 1235: " + Phone.MESSAGE_CONSTRAINTS, () ->
+                    ParallelPersonConverter.convert(adaptedPersons, 0));
+        }
+
+        adaptedPersons.set(10, new JsonAdaptedPerson("R$chel", "91234567", "Clementi", "F", "", "Aspirin",
+                List.of(), List.of()));
+        assertThrows(IllegalValueException.class, "Person 11: " + Name.MESSAGE_CONSTRAINTS, () ->
+                ParallelPersonConverter.convert(adaptedPersons, 0));
+    }
+
+    @Test
+    public void convert_laterBatch_reportsPositionInFile() {
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        for (Person person : createPersons()) {
+            adaptedPersons.add(new JsonAdaptedPerson(person));
+        }
+        adaptedPersons.set(3, new JsonAdaptedPerson("Rachel", "+651234", "Clementi", "F", "", "Aspirin",
+                List.of(), List.of()));
+
+        assertThrows(IllegalValueException.class, "Person 12349: " + Phone.MESSAGE_CONSTRAINTS, () ->
+                ParallelPersonConverter.convert(adaptedPersons, 12345));
+    }
+
+    @Test
+    public void read_invalidPersonAfterBatchBoundary_reportsPositionInFile() throws Exception {
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        for (int i = 0; i < ParallelPersonConverter.BATCH_SIZE + 10; i++) {
+            adaptedPersons.add(new JsonAdaptedPerson(new PersonBuilder().withName("Patient " + i)
+                    .withPhone(String.valueOf(80000000 + i)).build()));
+        }
+        adaptedPersons.set(ParallelPersonConverter.BATCH_SIZE + 4, new JsonAdaptedPerson("Rachel", "+651234",
+                "Clementi", "F", "", "Aspirin", List.of(), List.of()));
+        Path filePath = testFolder.resolve("invalidPersonAfterBatchBoundary.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(adaptedPersons), filePath);
+
+        // The person is the fifth of the second batch
+        DataLoadingException e = Assertions.assertThrows(DataLoadingException.class, () ->
+                JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook::read));
+        assertEquals("Person " + (ParallelPersonConverter.BATCH_SIZE + 5) + ": " + Phone.MESSAGE_CONSTRAINTS,
+                e.getCause().getMessage());
+    }
+
+    private static List<Person> createPersons() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            persons.add(new PersonBuilder().withName("Patient " + i).withPhone(String.valueOf(80000000 + i))
+                    .withConditions("condition" + i % 7).build());
+        }
+        return persons;
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class SqlAddressBookStorageTest {
+    private static final Path TYPICAL_PERSONS_JSON_FILE = Paths.get("src", "test", "data",
+            "JsonSerializableAddressBookTest", "typicalPersonsAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getDatabaseFilePath_jsonFile_replacesExtension() {
+        assertEquals(Paths.get("data", "addressbook.mv.db"),
+                SqlAddressBookStorage.getDatabaseFilePath(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void readAddressBook_noDatabaseOrJsonFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        assertFalse(new SqlAddressBookStorage(filePath).readAddressBook().isPresent());
+        assertFalse(Files.exists(SqlAddressBookStorage.getDatabaseFilePath(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_jsonFileOnly_importsJsonFile() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Files.copy(TYPICAL_PERSONS_JSON_FILE, filePath);
+
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new SqlAddressBookStorage(filePath).readAddressBook().get()));
+        assertTrue(Files.exists(SqlAddressBookStorage.getDatabaseFilePath(filePath)));
+        assertTrue(Files.exists(filePath));
+
+        // A later change to the JSON file is not imported again
+        Files.delete(filePath);
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new SqlAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // Additions, removals and edits that keep or change the primary key
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withAddress("Changed").withDetails("moved").build());
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new SqlAddressBookStorage(filePath).readAddressBook().get()));
+
+        AddressBook renamed = new AddressBook(original);
+        renamed.setPerson(HOON, new PersonBuilder(HOON).withName("Hoon Meier Jr").build());
+        storage.saveAddressBook(renamed);
+        assertEquals(renamed, new AddressBook(new SqlAddressBookStorage(filePath).readAddressBook().get()));
+    }
+}
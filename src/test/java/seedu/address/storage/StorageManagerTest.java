@@ -2,18 +2,29 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 public class StorageManagerTest {
 
@@ -60,6 +71,115 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_unmodifiedSinceLastSave_skipsWrite() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.saveAddressBook(addressBook);
+        storageManager.saveAddressBook(addressBook);
+        assertEquals(1, storageManager.getSaveCount());
+        assertEquals(1, storageManager.getSkippedSaveCount());
+
+        // A modified address book, a different address book or a different file is written
+        addressBook.removePerson(ALICE);
+        storageManager.saveAddressBook(addressBook);
+        storageManager.saveAddressBook(new AddressBook(addressBook));
+        storageManager.saveAddressBook(addressBook, getTempFilePath("other"));
+        assertEquals(4, storageManager.getSaveCount());
+        assertEquals(1, storageManager.getSkippedSaveCount());
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookInBackground_burstOfChanges_coalescedIntoOneWrite() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch firstWriteAllowed = new CountDownLatch(1);
+        List<Integer> writtenSizes = new ArrayList<>();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                firstWriteStarted.countDown();
+                try {
+                    firstWriteAllowed.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                writtenSizes.add(addressBook.getPersonList().size());
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        StorageManager storage = new StorageManager(addressBookStorage, new JsonUserPrefsStorage(
+                getTempFilePath("prefs")));
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBookInBackground(addressBook);
+        firstWriteStarted.await();
+
+        // Changes made while the first write is in progress are written together once it finishes
+        addressBook.addPerson(BENSON);
+        storage.saveAddressBookInBackground(addressBook);
+        addressBook.addPerson(CARL);
+        storage.saveAddressBookInBackground(addressBook);
+        firstWriteAllowed.countDown();
+        storage.flushAddressBook();
+
+        assertEquals(List.of(1, 3), writtenSizes);
+        assertEquals(2, storage.getSaveCount());
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookInBackground_changedBeforeWrite_writesSnapshotWithoutCopying() throws Exception {
+        CountDownLatch writeAllowed = new CountDownLatch(1);
+        List<PersistentList<Person>> writtenSnapshots = new ArrayList<>();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                try {
+                    writeAllowed.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                writtenSnapshots.add(addressBook.getSnapshot());
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        StorageManager storage = new StorageManager(addressBookStorage, new JsonUserPrefsStorage(
+                getTempFilePath("prefs")));
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        PersistentList<Person> savedSnapshot = addressBook.getSnapshot();
+        storage.saveAddressBookInBackground(addressBook);
+
+        // A change that is not saved does not reach the write already scheduled
+        addressBook.addPerson(BENSON);
+        writeAllowed.countDown();
+        storage.flushAddressBook();
+
+        assertSame(savedSnapshot, writtenSnapshots.get(0));
+        assertEquals(List.of(ALICE), storage.readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void saveAddressBookInBackground_writeFails_failureHandled() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        StorageManager storage = new StorageManager(addressBookStorage, new JsonUserPrefsStorage(
+                getTempFilePath("prefs")));
+        List<IOException> handledFailures = new ArrayList<>();
+        storage.setSaveFailureHandler(handledFailures::add);
+
+        storage.saveAddressBookInBackground(getTypicalAddressBook());
+        assertThrows(IOException.class, storage::flushAddressBook);
+        assertEquals(List.of(failure), handledFailures);
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());